@@ -2861,7 +2861,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
             }
 
             parameterManager.parameterizeQuery(query);
-            return applyObjectBuilder(query);
+            return applyObjectBuilder(query, baseQueryString);
         }
 
         TypedQuery<QueryResultType> baseQuery = (TypedQuery<QueryResultType>) em.createQuery(baseQueryString, selectManager.getExpectedQueryResultType());
@@ -2910,7 +2910,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         }
 
         parameterManager.parameterizeQuery(query);
-        return applyObjectBuilder(query);
+        return applyObjectBuilder(query, baseQueryString);
     }
 
     protected boolean needsSqlReplacement(Set<JoinNode> keyRestrictedLeftJoins) {
@@ -3991,10 +3991,10 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
     }
 
     @SuppressWarnings("unchecked")
-    protected final TypedQuery<QueryResultType> applyObjectBuilder(TypedQuery<?> query) {
+    protected final TypedQuery<QueryResultType> applyObjectBuilder(TypedQuery<?> query, String queryString) {
         ObjectBuilder<QueryResultType> selectObjectBuilder = selectManager.getSelectObjectBuilder();
         if (selectObjectBuilder != null) {
-            return new ObjectBuilderTypedQuery<>(query, query instanceof AbstractCustomQuery<?> ? null : parameterManager.getCriteriaNameMapping(), selectObjectBuilder);
+            return new ObjectBuilderTypedQuery<>(query, query instanceof AbstractCustomQuery<?> ? null : parameterManager.getCriteriaNameMapping(), selectObjectBuilder, queryString);
         } else if (parameterManager.getCriteriaNameMapping() != null) {
             return new TypedQueryWrapper<>((TypedQuery<QueryResultType>) query, parameterManager.getCriteriaNameMapping());
         } else {
@@ -15,6 +15,8 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Christian Beikov
@@ -23,6 +25,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class AssociationFromIdParameterTransformer implements ParameterValueTransformer {
 
     private static final Map<Class<?>, AssociationFromIdParameterTransformer> INSTANCES = new ConcurrentHashMap<>();
+    private static final Lock INSTANCES_LOCK = new ReentrantLock();
 
     private final Constructor<Object> entityConstructor;
     private final Field idField;
@@ -57,12 +60,15 @@ public class AssociationFromIdParameterTransformer implements ParameterValueTran
     public static AssociationFromIdParameterTransformer getInstance(Class<?> associationType, Attribute<?, ?> idAttribute) {
         AssociationFromIdParameterTransformer transformer = INSTANCES.get(associationType);
         if (transformer == null) {
-            synchronized (INSTANCES) {
+            INSTANCES_LOCK.lock();
+            try {
                 transformer = INSTANCES.get(associationType);
                 if (transformer == null) {
                     transformer = new AssociationFromIdParameterTransformer(associationType, idAttribute);
                     INSTANCES.put(associationType, transformer);
                 }
+            } finally {
+                INSTANCES_LOCK.unlock();
             }
         }
         return transformer;
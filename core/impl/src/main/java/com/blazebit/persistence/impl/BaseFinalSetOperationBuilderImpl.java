@@ -437,7 +437,7 @@ public abstract class BaseFinalSetOperationBuilderImpl<T, X extends BaseFinalSet
 
         parameterManager.parameterizeQuery(query);
 
-        return applyObjectBuilder(query);
+        return applyObjectBuilder(query, getBaseQueryString(null, null));
     }
 
     @Override
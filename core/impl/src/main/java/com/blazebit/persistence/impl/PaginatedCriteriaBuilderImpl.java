@@ -594,7 +594,10 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
                 keysetPage,
                 forceFirstResult,
                 inlinedIdQuery,
-                inlinedCountQuery
+                inlinedCountQuery,
+                countQueryString,
+                idQuery == null ? null : getPageIdQueryStringWithoutCheck(),
+                getBaseQueryString(null, null)
         );
         return query;
     }
@@ -991,7 +994,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         }
 
         if (transformerObjectBuilder != null) {
-            query = new ObjectBuilderTypedQuery<>(query, query instanceof AbstractCustomQuery<?> ? null : parameterManager.getCriteriaNameMapping(), transformerObjectBuilder);
+            query = new ObjectBuilderTypedQuery<>(query, query instanceof AbstractCustomQuery<?> ? null : parameterManager.getCriteriaNameMapping(), transformerObjectBuilder, queryString);
         } else if (parameterManager.getCriteriaNameMapping() != null) {
             if (!(query instanceof CustomSQLTypedQuery<?>)) {
                 query = new TypedQueryWrapper<>(query, parameterManager.getCriteriaNameMapping());
@@ -1060,7 +1063,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
                 mainQuery.jpaProvider.setCacheable(query);
             }
             parameterManager.parameterizeQuery(query, skippedParameterPrefix);
-            return applyObjectBuilder(query);
+            return applyObjectBuilder(query, getBaseQueryString(null, null));
         }
 
         TypedQuery<T> baseQuery = (TypedQuery<T>) em.createQuery(getBaseQueryString(null, null), selectManager.getExpectedQueryResultType());
@@ -1097,7 +1100,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
 
         parameterManager.parameterizeQuery(query, skippedParameterPrefix);
 
-        return applyObjectBuilder(query);
+        return applyObjectBuilder(query, getBaseQueryString(null, null));
     }
 
     @Override
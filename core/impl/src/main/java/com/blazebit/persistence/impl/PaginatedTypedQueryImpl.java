@@ -39,6 +39,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * @author Christian Beikov
@@ -46,6 +48,8 @@ import java.util.Set;
  */
 public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
 
+    private static final Logger LOG = Logger.getLogger(PaginatedTypedQueryImpl.class.getName());
+
     private final boolean withExtractAllKeysets;
     private final boolean withCount;
     private final boolean boundedCount;
@@ -70,9 +74,13 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
     private final boolean forceFirstResult;
     private final boolean inlinedIdQuery;
     private final boolean inlinedCountQuery;
+    private final String countQueryString;
+    private final String idQueryString;
+    private final String objectQueryString;
 
     public PaginatedTypedQueryImpl(boolean withExtractAllKeysets, boolean withCount, boolean boundedCount, int highestOffset, TypedQuery<?> countQuery, Query idQuery, TypedQuery<X> objectQuery, ObjectBuilder<X> objectBuilder, Collection<ParameterManager.ParameterImpl<?>> parameters, Map<ParameterExpression<?>, String> criteriaNameMapping,
-                                   Object entityId, int firstResult, int pageSize, int identifierCount, boolean needsNewIdList, int[] keysetToSelectIndexMapping, KeysetMode keysetMode, KeysetPage keysetPage, boolean forceFirstResult, boolean inlinedIdQuery, boolean inlinedCountQuery) {
+                                   Object entityId, int firstResult, int pageSize, int identifierCount, boolean needsNewIdList, int[] keysetToSelectIndexMapping, KeysetMode keysetMode, KeysetPage keysetPage, boolean forceFirstResult, boolean inlinedIdQuery, boolean inlinedCountQuery,
+                                   String countQueryString, String idQueryString, String objectQueryString) {
         this.withExtractAllKeysets = withExtractAllKeysets;
         this.withCount = withCount;
         this.boundedCount = boundedCount;
@@ -93,6 +101,9 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
         this.forceFirstResult = forceFirstResult;
         this.inlinedIdQuery = inlinedIdQuery;
         this.inlinedCountQuery = inlinedCountQuery;
+        this.countQueryString = countQueryString;
+        this.idQueryString = idQueryString;
+        this.objectQueryString = objectQueryString;
         this.criteriaNameMapping = criteriaNameMapping;
 
         Map<String, Parameter<?>> params = new HashMap<>(parameters.size());
@@ -165,7 +176,49 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
 
     @Override
     public long getTotalCount() {
-        return ((Number) countQuery.getSingleResult()).longValue();
+        return ((Number) executeCountQuery()).longValue();
+    }
+
+    private Object executeCountQuery() {
+        if (!LOG.isLoggable(Level.FINE)) {
+            return countQuery.getSingleResult();
+        }
+        long start = System.nanoTime();
+        Object result = countQuery.getSingleResult();
+        logExecution("count", countQueryString, start, 1);
+        return result;
+    }
+
+    private List<?> executeIdQuery() {
+        if (!LOG.isLoggable(Level.FINE)) {
+            return idQuery.getResultList();
+        }
+        long start = System.nanoTime();
+        List<?> result = idQuery.getResultList();
+        logExecution("id", idQueryString, start, result.size());
+        return result;
+    }
+
+    private List<X> executeObjectQuery() {
+        if (!LOG.isLoggable(Level.FINE)) {
+            return objectQuery.getResultList();
+        }
+        long start = System.nanoTime();
+        List<X> result = objectQuery.getResultList();
+        logExecution("object", objectQueryString, start, result.size());
+        return result;
+    }
+
+    private static void logExecution(String queryKind, String queryString, long start, int rowCount) {
+        long micros = (System.nanoTime() - start) / 1000L;
+        LOG.fine(new StringBuilder("Paginated ").append(queryKind)
+                .append(" query returned ")
+                .append(rowCount)
+                .append(" rows in ")
+                .append(micros)
+                .append("us: ")
+                .append(queryString)
+                .toString());
     }
 
     @Override
@@ -183,9 +236,9 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
         long totalSize = -1L;
         if (withCount && !inlinedCountQuery) {
             if (entityId == null) {
-                totalSize = ((Number) countQuery.getSingleResult()).longValue();
+                totalSize = ((Number) executeCountQuery()).longValue();
             } else {
-                Object[] result = (Object[]) countQuery.getSingleResult();
+                Object[] result = (Object[]) executeCountQuery();
                 totalSize = ((Number) result[0]).longValue();
 
                 if (result[1] == null) {
@@ -217,7 +270,7 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
                 idQuery.setFirstResult(0);
             }
 
-            List<?> ids = idQuery.getResultList();
+            List<?> ids = executeIdQuery();
 
             if (ids.isEmpty()) {
                 KeysetPage newKeysetPage = null;
@@ -374,7 +427,7 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
             }
 
             totalSize = Math.max(totalSize, firstRow + ids.size());
-            List<X> queryResultList = objectQuery.getResultList();
+            List<X> queryResultList = executeObjectQuery();
 
             PagedList<X> pagedResultList = new PagedArrayList<X>(queryResultList, newKeyset, totalSize, queryFirstResult, pageSize);
             return pagedResultList;
@@ -389,7 +442,7 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
                 }
             }
 
-            List<X> result = objectQuery.getResultList();
+            List<X> result = executeObjectQuery();
 
             if (result.isEmpty()) {
                 KeysetPage newKeysetPage = null;
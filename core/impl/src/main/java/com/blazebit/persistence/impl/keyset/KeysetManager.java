@@ -65,16 +65,28 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
         OrderByExpression extractedNonNullableExpression = null;
 
         if (key != null) {
+            // If the key of a leading nullable order by item is null and nulls are ordered last in the navigation direction,
+            // all following rows must be null for that item as well. Rendering an IS NULL equality prefix
+            // allows us to use the optimized predicate for the remaining items instead of falling back to the disjunctive form
+            int start = 0;
+            int lastIndex = orderByExpressions.size() - 1;
+            while (start < lastIndex && key[start] == null && orderByExpressions.get(start).isNullable()
+                    && orderByExpressions.get(start).isNullFirst() == (keysetMode == KeysetMode.PREVIOUS)) {
+                applyKeysetNullItem(sb, orderByExpressions.get(start).getExpression(), false);
+                sb.append(" AND ");
+                start++;
+            }
+
             boolean hasNullableOrderBys = false;
             boolean hasParameterInOrderBy = false; // TODO: Determine if order by expression has parameter as that will ruin reordering of expressions in row value constructor
-            for (OrderByExpression orderByExpression : orderByExpressions) {
-                if (orderByExpression.isNullable()) {
+            for (int i = start; i < orderByExpressions.size(); i++) {
+                if (orderByExpressions.get(i).isNullable()) {
                     hasNullableOrderBys = true;
                     break;
                 }
             }
 
-            extractedNonNullableExpression = orderByExpressions.get(0);
+            extractedNonNullableExpression = orderByExpressions.get(start);
 
             // We can only use row value based keyset predicates if the dbms supports row values and row value comparison and
             // if all order bys are non-nullable because null elements would break the row value comparison.
@@ -83,19 +95,19 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
                 // null checks involving disjunction on the top predicate level which would contradict the main idea of the
                 // optimization.
                 boolean optimizationAllowed = !extractedNonNullableExpression.isNullable()
-                        || keysetMode == KeysetMode.NEXT && extractedNonNullableExpression.isNullFirst() && key[0] != null
-                        || keysetMode == KeysetMode.PREVIOUS && !extractedNonNullableExpression.isNullFirst() && key[0] != null;
+                        || keysetMode == KeysetMode.NEXT && extractedNonNullableExpression.isNullFirst() && key[start] != null
+                        || keysetMode == KeysetMode.PREVIOUS && !extractedNonNullableExpression.isNullFirst() && key[start] != null;
                 if (optimizationAllowed) {
-                    applyOptimizedKeysetNotNullItem(extractedNonNullableExpression, sb, 0, key[0], keysetMode, false, positionalOffset);
-                    if (orderByExpressions.size() > 1) {
+                    applyOptimizedKeysetNotNullItem(extractedNonNullableExpression, sb, start, key[start], keysetMode, false, positionalOffset);
+                    if (start < lastIndex) {
                         sb.append(" AND NOT (");
-                        applyKeysetItem(sb, extractedNonNullableExpression.getExpression(), "=", 0, key[0], positionalOffset);
+                        applyKeysetItem(sb, extractedNonNullableExpression.getExpression(), "=", start, key[start], positionalOffset);
                         sb.append(" AND ");
-                        buildOptimizedPredicate0(keysetMode, key, sb, orderByExpressions, positionalOffset);
+                        buildOptimizedPredicate0(keysetMode, key, sb, orderByExpressions, start, positionalOffset);
                         sb.append(")");
                     }
                 } else {
-                    buildKeysetPredicate0(keysetMode, key, sb, orderByExpressions, positionalOffset);
+                    buildKeysetPredicate0(keysetMode, key, sb, orderByExpressions, start, positionalOffset);
                 }
             } else {
                 // we can use row value constructor syntax
@@ -107,7 +119,7 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
                 sb.append(jpaProvider.getCustomFunctionInvocation(RowValueComparisonFunction.FUNCTION_NAME, 1))
                         .append('\'').append(keysetMode == KeysetMode.SAME ? "<=" : "<").append('\'');
 
-                for (int i = 0; i < orderByExpressions.size(); i++) {
+                for (int i = start; i < orderByExpressions.size(); i++) {
                     OrderByExpression orderByExpression = orderByExpressions.get(i);
 
                     sb.append(",CASE WHEN 1=NULLIF(1,1) AND ");
@@ -122,7 +134,7 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
                     sb.append(" THEN 1 ELSE 0 END");
                 }
                 // We have to render right hand side parameters at the end to retain the correct order
-                for (int i = 0; i < orderByExpressions.size(); i++) {
+                for (int i = start; i < orderByExpressions.size(); i++) {
                     OrderByExpression orderByExpression = orderByExpressions.get(i);
 
                     if (orderByExpression.isDescending() && keysetMode != KeysetMode.PREVIOUS || orderByExpression.isAscending() && keysetMode == KeysetMode.PREVIOUS) {
@@ -146,11 +158,11 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
         Serializable[] key = keyset.getTuple();
 
         if (key != null) {
-            buildKeysetPredicate0(keysetMode, key, sb, orderByExpressions, positionalOffset);
+            buildKeysetPredicate0(keysetMode, key, sb, orderByExpressions, 0, positionalOffset);
         }
     }
 
-    private void buildOptimizedPredicate0(KeysetMode keysetMode, Serializable[] key, StringBuilder sb, List<OrderByExpression> orderByExpressions, int positionalOffset) {
+    private void buildOptimizedPredicate0(KeysetMode keysetMode, Serializable[] key, StringBuilder sb, List<OrderByExpression> orderByExpressions, int start, int positionalOffset) {
         int expressionCount = orderByExpressions.size();
         int brackets = 1;
         sb.append('(');
@@ -160,7 +172,7 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
         // Render a keyset predicate that includes the remaining order by clauses except for the extracted one
         // The logic needs to be inverted because the created <predicate> will reside in a negation aka
         // WHERE firstOrderBy <= :keyset AND NOT(firstOrderBy = :keyset AND <predicate>)
-        for (int i = 1; i < expressionCount; i++) {
+        for (int i = start + 1; i < expressionCount; i++) {
             boolean itemRendered = true;
             boolean isNotLast = i + 1 != expressionCount;
             OrderByExpression orderByExpr = orderByExpressions.get(i);
@@ -218,7 +230,7 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
         queryGenerator.setBooleanLiteralRenderingContext(oldBooleanLiteralRenderingContext);
     }
 
-    private void buildKeysetPredicate0(KeysetMode keysetMode, Serializable[] key, StringBuilder sb, List<OrderByExpression> orderByExpressions, int positionalOffset) {
+    private void buildKeysetPredicate0(KeysetMode keysetMode, Serializable[] key, StringBuilder sb, List<OrderByExpression> orderByExpressions, int start, int positionalOffset) {
         int expressionCount = orderByExpressions.size();
         boolean generateEqualPredicate = true;
         int brackets = 0;
@@ -229,7 +241,7 @@ public class KeysetManager extends AbstractKeysetBuilderEndedListener {
         brackets++;
         sb.append('(');
 
-        for (int i = 0; i < expressionCount; i++) {
+        for (int i = start; i < expressionCount; i++) {
             boolean isNotLast = i + 1 != expressionCount;
 
             OrderByExpression orderByExpr = orderByExpressions.get(i);
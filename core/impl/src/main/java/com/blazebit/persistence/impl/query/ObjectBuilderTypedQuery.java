@@ -11,6 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import javax.persistence.NoResultException;
@@ -25,12 +27,16 @@ import javax.persistence.criteria.ParameterExpression;
  */
 public class ObjectBuilderTypedQuery<X> extends TypedQueryWrapper<X> {
 
+    private static final Logger LOG = Logger.getLogger(ObjectBuilderTypedQuery.class.getName());
+
     private final ObjectBuilder<X> builder;
+    private final String queryString;
 
     @SuppressWarnings("unchecked")
-    public ObjectBuilderTypedQuery(TypedQuery<?> delegate, Map<ParameterExpression<?>, String> criteriaNameMapping, ObjectBuilder<X> builder) {
+    public ObjectBuilderTypedQuery(TypedQuery<?> delegate, Map<ParameterExpression<?>, String> criteriaNameMapping, ObjectBuilder<X> builder, String queryString) {
         super((TypedQuery<X>) delegate, criteriaNameMapping);
         this.builder = builder;
+        this.queryString = queryString;
     }
 
     @Override
@@ -49,7 +55,10 @@ public class ObjectBuilderTypedQuery<X> extends TypedQueryWrapper<X> {
 
     @Override
     public List<X> getResultList() {
+        boolean timed = LOG.isLoggable(Level.FINE);
+        long start = timed ? System.nanoTime() : 0L;
         List<X> list = super.getResultList();
+        long executed = timed ? System.nanoTime() : 0L;
         int size = list.size();
         List<X> newList = new ArrayList<X>(size);
 
@@ -63,7 +72,19 @@ public class ObjectBuilderTypedQuery<X> extends TypedQueryWrapper<X> {
             }
         }
         
-        return builder.buildList(newList);
+        List<X> result = builder.buildList(newList);
+        if (timed) {
+            long end = System.nanoTime();
+            LOG.fine(new StringBuilder("Query execution for ").append(size)
+                    .append(" rows took ")
+                    .append((executed - start) / 1000L)
+                    .append("us, building the objects took ")
+                    .append((end - executed) / 1000L)
+                    .append("us for query: ")
+                    .append(queryString)
+                    .toString());
+        }
+        return result;
     }
 
     public Stream<X> getResultStream() {
@@ -144,12 +144,26 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
     }
 
     private Expression createExpression(RuleInvoker ruleInvoker, String expression, boolean allowOuter, boolean allowQuantifiedPredicates, boolean allowObjectExpression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
+        return createExpression(ruleInvoker, expression, false, false, allowOuter, allowQuantifiedPredicates, allowObjectExpression, macroConfiguration, usedMacros);
+    }
+
+    private Expression createExpression(RuleInvoker ruleInvoker, String expression, boolean allowFastPath, boolean allowFastParameterOrLiteral, boolean allowOuter, boolean allowQuantifiedPredicates, boolean allowObjectExpression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
         if (expression == null) {
             throw new NullPointerException("expression");
         }
         if (expression.isEmpty()) {
             throw new IllegalArgumentException("expression");
         }
+        if (allowFastPath || allowFastParameterOrLiteral) {
+            // Trivial expressions are very common, so we try to avoid the overhead of the ANTLR parser for them
+            Expression parsedExpression = FastExpressionParser.parse(expression, allowFastPath, allowFastParameterOrLiteral, enumTypes);
+            if (parsedExpression != null) {
+                if (optimize) {
+                    parsedExpression = parsedExpression.accept(optimizer);
+                }
+                return parsedExpression;
+            }
+        }
         CharStream inputCharStream = CharStreams.fromString(expression);
         JPQLNextLexer l = new JPQLNextLexer(inputCharStream);
         configureLexer(l);
@@ -188,7 +202,7 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
 
     @Override
     public Expression createPathExpression(String expression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        Expression expr = createExpression(PATH_RULE_INVOKER, expression, false, false, false, macroConfiguration, usedMacros);
+        Expression expr = createExpression(PATH_RULE_INVOKER, expression, true, false, false, false, false, macroConfiguration, usedMacros);
         if (expr instanceof PathExpression) {
             return expr;
         } else if (expr instanceof PathElementExpression) {
@@ -212,7 +226,7 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
 
     @Override
     public Expression createSimpleExpression(String expression, boolean allowOuter, boolean allowQuantifiedPredicates, boolean allowObjectExpression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        return createExpression(getSimpleExpressionRuleInvoker(), expression, allowOuter, allowQuantifiedPredicates, allowObjectExpression, macroConfiguration, usedMacros);
+        return createExpression(getSimpleExpressionRuleInvoker(), expression, true, true, allowOuter, allowQuantifiedPredicates, allowObjectExpression, macroConfiguration, usedMacros);
     }
 
     @Override
@@ -244,12 +258,12 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
 
     @Override
     public Expression createInItemExpression(String expression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        return createExpression(IN_ITEM_EXPRESSION_RULE_INVOKER, expression, false, false, false, macroConfiguration, usedMacros);
+        return createExpression(IN_ITEM_EXPRESSION_RULE_INVOKER, expression, false, true, false, false, false, macroConfiguration, usedMacros);
     }
 
     @Override
     public Expression createInItemOrPathExpression(String expression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        return createExpression(IN_ITEM_OR_PATH_EXPRESSION_RULE_INVOKER, expression, false, false, false, macroConfiguration, usedMacros);
+        return createExpression(IN_ITEM_OR_PATH_EXPRESSION_RULE_INVOKER, expression, true, true, false, false, false, macroConfiguration, usedMacros);
     }
 
     protected void configureLexer(JPQLNextLexer lexer) {
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.parser.expression;
+
+import com.blazebit.persistence.parser.JPQLNextLexer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hand written parser for the most common trivial expressions i.e. simple paths like <code>a.b.c</code>,
+ * parameters like <code>:param</code> or <code>?1</code> and integer literals.
+ * Returns <code>null</code> for anything else or anything that might be ambiguous, so that the caller can fall back to the ANTLR parser.
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+final class FastExpressionParser {
+
+    // Contains all keywords and some additional rule names, which is fine as we only use it to decide when to bail out
+    private static final Set<String> LEXER_RULE_NAMES;
+
+    static {
+        Set<String> ruleNames = new HashSet<>();
+        for (String ruleName : JPQLNextLexer.ruleNames) {
+            ruleNames.add(ruleName.toUpperCase(Locale.ROOT));
+        }
+        LEXER_RULE_NAMES = ruleNames;
+    }
+
+    private FastExpressionParser() {
+    }
+
+    public static Expression parse(String expression, boolean allowPath, boolean allowParameterOrLiteral, Map<String, Class<Enum<?>>> enumTypes) {
+        char c = expression.charAt(0);
+        if (allowParameterOrLiteral) {
+            if (c == ':') {
+                return parseNamedParameter(expression);
+            } else if (c == '?') {
+                return isIntegerLiteral(expression, 1) ? new ParameterExpression(expression.substring(1)) : null;
+            } else if (isIntegerLiteral(expression, 0)) {
+                return new NumericLiteral(expression, NumericType.INTEGER);
+            }
+        }
+        if (allowPath && isIdentifierStart(c)) {
+            return parsePath(expression, enumTypes);
+        }
+        return null;
+    }
+
+    private static Expression parseNamedParameter(String expression) {
+        if (identifierEnd(expression, 1) != expression.length() || isKeyword(expression, 1, expression.length())) {
+            return null;
+        }
+        return new ParameterExpression(expression.substring(1));
+    }
+
+    private static Expression parsePath(String expression, Map<String, Class<Enum<?>>> enumTypes) {
+        int length = expression.length();
+        int lastDotIndex = -1;
+        List<PathElementExpression> pathElements = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int end = identifierEnd(expression, start);
+            if (end == -1 || isKeyword(expression, start, end)) {
+                return null;
+            }
+            pathElements.add(new PropertyExpression(expression.substring(start, end)));
+            if (end == length) {
+                break;
+            }
+            if (expression.charAt(end) != '.') {
+                return null;
+            }
+            lastDotIndex = end;
+            start = end + 1;
+        }
+        // The ANTLR based parser would resolve this to an enum literal
+        if (lastDotIndex != -1 && enumTypes.containsKey(expression.substring(0, lastDotIndex))) {
+            return null;
+        }
+        return new PathExpression(pathElements);
+    }
+
+    private static int identifierEnd(String expression, int start) {
+        int length = expression.length();
+        if (start >= length || !isIdentifierStart(expression.charAt(start))) {
+            return -1;
+        }
+        int i = start + 1;
+        while (i < length && isIdentifierPart(expression.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isKeyword(String expression, int start, int end) {
+        return LEXER_RULE_NAMES.contains(expression.substring(start, end).toUpperCase(Locale.ROOT));
+    }
+
+    private static boolean isIntegerLiteral(String expression, int start) {
+        int length = expression.length();
+        if (start >= length) {
+            return false;
+        }
+        char c = expression.charAt(start);
+        if (c == '0') {
+            return start + 1 == length;
+        }
+        if (c < '1' || c > '9') {
+            return false;
+        }
+        for (int i = start + 1; i < length; i++) {
+            c = expression.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // We intentionally only handle ASCII identifiers without '$' to stay in line with what the lexer tokenizes as IDENTIFIER
+    private static boolean isIdentifierStart(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || c >= '0' && c <= '9';
+    }
+}
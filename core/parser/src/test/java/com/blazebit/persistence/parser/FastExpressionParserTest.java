@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.parser;
+
+import com.blazebit.persistence.parser.expression.EnumLiteral;
+import com.blazebit.persistence.parser.expression.NullExpression;
+import com.blazebit.persistence.parser.expression.SyntaxErrorException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Makes sure that expressions which are handled by the hand written fast path parser
+ * result in the same expressions as the ANTLR based parser would produce.
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+public class FastExpressionParserTest extends AbstractParserTest {
+
+    @Test
+    public void testSimplePath() {
+        assertEquals(path("a"), parse("a"));
+        assertEquals(path("a", "b", "c"), parse("a.b.c"));
+        assertEquals(path("_a1", "b_2"), parse("_a1.b_2"));
+        assertEquals(path("a", "b", "c"), parsePath("a.b.c"));
+        assertEquals(path("a", "b"), ef().createInItemOrPathExpression("a.b", macroConfiguration, null));
+    }
+
+    @Test
+    public void testPathWithKeywordSegment() {
+        assertEquals(path("e", "value"), parse("e.value"));
+        assertEquals(keyExpression("m"), parse("KEY(m)"));
+        assertEquals(NullExpression.INSTANCE, parse("NULL"));
+        assertEquals(_boolean(true), parse("true"));
+    }
+
+    @Test
+    public void testPathWithEnumPrefix() {
+        enumTypes.put("test.TestEnum", (Class<Enum<?>>) (Class<?>) TestEnum.class);
+        EnumLiteral result = (EnumLiteral) parse("test.TestEnum.ABC");
+        assertEquals(_enum(TestEnum.ABC), result);
+    }
+
+    @Test
+    public void testParameter() {
+        assertEquals(parameter("param"), parse(":param"));
+        assertEquals(parameter("1"), parse("?1"));
+        assertEquals(parameter("param"), parseInItemExpression(":param"));
+        assertEquals(parameter("param"), ef().createInItemOrPathExpression(":param", macroConfiguration, null));
+    }
+
+    @Test
+    public void testIntegerLiteral() {
+        assertEquals(_int("0"), parse("0"));
+        assertEquals(_int("123"), parse("123"));
+        assertEquals(_int("123"), parseInItemExpression("123"));
+        assertEquals(_long("123"), parse("123L"));
+    }
+
+    @Test(expected = SyntaxErrorException.class)
+    public void testInvalidPath() {
+        parse("a..b");
+    }
+
+    @Test(expected = SyntaxErrorException.class)
+    public void testParameterInPathExpression() {
+        parsePath(":param");
+    }
+
+    static enum TestEnum {
+        ABC,
+        DEF;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMSSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOracle;
+import com.blazebit.persistence.testsuite.entity.KeysetEntity2;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import java.io.Serializable;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the optimized keyset predicate when the key of the leading nullable order by item is null.
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+// DataNucleus has a bug with null precedence rendering
+// see https://github.com/datanucleus/datanucleus-rdbms/issues/224
+@Category({ NoDatanucleus.class })
+public class OptimizedKeysetPaginationLeadingNullsTest extends AbstractCoreTest {
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { KeysetEntity2.class };
+    }
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.setProperty(ConfigurationProperties.OPTIMIZED_KEYSET_PREDICATE_RENDERING, "true");
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                em.persist(new KeysetEntity2(1, 1, null, null));
+                em.persist(new KeysetEntity2(2, 0, null, null));
+                em.persist(new KeysetEntity2(3, 2, 0, null));
+                em.persist(new KeysetEntity2(4, 1, 1, null));
+                em.persist(new KeysetEntity2(5, 2, 1, null));
+                em.persist(new KeysetEntity2(6, 1, 2, null));
+                em.persist(new KeysetEntity2(7, 2, null, 0));
+                em.persist(new KeysetEntity2(8, 1, null, 1));
+                em.persist(new KeysetEntity2(9, 0, null, 1));
+                em.persist(new KeysetEntity2(10, 2, null, 2));
+                em.persist(new KeysetEntity2(11, 1, 0, 0));
+                em.persist(new KeysetEntity2(12, 1, 0, 1));
+                em.persist(new KeysetEntity2(13, 0, 1, 0));
+                em.persist(new KeysetEntity2(14, 0, 1, 1));
+                em.persist(new KeysetEntity2(15, 0, 1, 1));
+                em.persist(new KeysetEntity2(16, 0, 1, 2));
+                em.persist(new KeysetEntity2(17, 0, 2, 1));
+                em.persist(new KeysetEntity2(18, 0, 2, 2));
+            }
+        });
+    }
+
+    // ORDER BY b ASC NULLS LAST, c ASC NULLS FIRST, id ASC
+    //    | PAGE |  B   |  C   | ID |
+    //    |  12  |  2   |  2   | 18 |
+    //    |  13  | NULL | NULL | 02 |
+    //    |  14  | NULL |  0   | 07 |
+    //    |  15  | NULL |  1   | 08 |
+
+    @Test
+    public void nextWithNullKeyAndNullsLast() {
+        assertKeysetNavigation(false, true, 14, 15, 7, 8,
+                "k.b IS NULL AND k.c >= 0 AND NOT (k.c = 0 AND (k.id <= 7))");
+    }
+
+    @Test
+    public void sameWithNullKeyAndNullsLast() {
+        assertKeysetNavigation(false, true, 14, 14, 7, 7,
+                "k.b IS NULL AND (k.c > 0 OR (k.c = 0 AND k.id >= 7))");
+    }
+
+    @Test
+    public void previousWithNullKeyAndNullsLast() {
+        // Rows with a non-null b precede the null key when scrolling back, so no IS NULL prefix can be rendered
+        assertKeysetNavigation(false, true, 14, 13, 7, 2,
+                "(k.b IS NOT NULL OR (k.b IS NULL AND ((k.c < 0 OR k.c IS NULL) OR (k.c = 0 AND k.id < 7))))");
+    }
+
+    // ORDER BY b ASC NULLS FIRST, c ASC NULLS LAST, id ASC
+    //    | PAGE |  B   |  C   | ID |
+    //    |  00  | NULL |  0   | 07 |
+    //    |  01  | NULL |  1   | 08 |
+    //    |  02  | NULL |  1   | 09 |
+    //    |  03  | NULL |  2   | 10 |
+
+    @Test
+    public void previousWithNullKeyAndNullsFirst() {
+        assertKeysetNavigation(true, false, 2, 1, 9, 8,
+                "k.b IS NULL AND k.c <= 1 AND NOT (k.c = 1 AND (k.id >= 9))");
+    }
+
+    @Test
+    public void nextWithNullKeyAndNullsFirst() {
+        // Rows with a non-null b follow the null key, so no IS NULL prefix can be rendered
+        assertKeysetNavigation(true, false, 2, 3, 9, 10,
+                "(k.b IS NOT NULL OR (k.b IS NULL AND ((k.c > 1 OR k.c IS NULL) OR (k.c = 1 AND k.id > 9))))");
+    }
+
+    @Test
+    public void sameWithNullKeyAndNullsFirst() {
+        assertKeysetNavigation(true, false, 2, 2, 9, 9,
+                "(k.b IS NOT NULL OR (k.b IS NULL AND ((k.c > 1 OR k.c IS NULL) OR (k.c = 1 AND k.id >= 9))))");
+    }
+
+    // ORDER BY b ASC NULLS LAST, a ASC, id ASC
+    //    | PAGE |  B   |  A   | ID |
+    //    |  12  | NULL |  0   | 02 |
+    //    |  13  | NULL |  0   | 09 |
+    //    |  14  | NULL |  1   | 01 |
+
+    @Test
+    @Category({ NoOracle.class, NoMSSQL.class })
+    public void nextWithNullKeyRowValueConstructor() {
+        assertRowValueKeysetNavigation(false, 13, 14, 9, 1,
+                "k.b IS NULL AND " + function("compare_row_value", "'<'", "CASE WHEN 1=NULLIF(1,1) AND :_keysetParameter_1=k.a THEN 1 ELSE 0 END,CASE WHEN 1=NULLIF(1,1) AND :_keysetParameter_2=k.id THEN 1 ELSE 0 END") + " = 0");
+    }
+
+    @Test
+    @Category({ NoOracle.class, NoMSSQL.class })
+    public void sameWithNullKeyRowValueConstructor() {
+        assertRowValueKeysetNavigation(false, 13, 13, 9, 9,
+                "k.b IS NULL AND " + function("compare_row_value", "'<='", "CASE WHEN 1=NULLIF(1,1) AND :_keysetParameter_1=k.a THEN 1 ELSE 0 END,CASE WHEN 1=NULLIF(1,1) AND :_keysetParameter_2=k.id THEN 1 ELSE 0 END") + " = 0");
+    }
+
+    // ORDER BY b ASC NULLS FIRST, a ASC, id ASC
+    //    | PAGE |  B   |  A   | ID |
+    //    |  00  | NULL |  0   | 02 |
+    //    |  01  | NULL |  0   | 09 |
+    //    |  02  | NULL |  1   | 01 |
+
+    @Test
+    @Category({ NoOracle.class, NoMSSQL.class })
+    public void previousWithNullKeyRowValueConstructor() {
+        assertRowValueKeysetNavigation(true, 2, 1, 1, 9,
+                "k.b IS NULL AND " + function("compare_row_value", "'<'", "CASE WHEN 1=NULLIF(1,1) AND 1=NULLIF(1,1) THEN 1 ELSE 0 END,CASE WHEN 1=NULLIF(1,1) AND 1=NULLIF(1,1) THEN 1 ELSE 0 END,CASE WHEN 1=NULLIF(1,1) AND k.a=:_keysetParameter_1 THEN 1 ELSE 0 END,CASE WHEN 1=NULLIF(1,1) AND k.id=:_keysetParameter_2 THEN 1 ELSE 0 END") + " = 0");
+    }
+
+    private void assertKeysetNavigation(boolean bNullsFirst, boolean cNullsFirst, int from, int to, Integer id1, Integer id2, String keysetCondition) {
+        CriteriaBuilder<Tuple> crit = cbf.create(em, Tuple.class).from(KeysetEntity2.class, "k")
+                .select("id");
+        crit.orderBy("b", true, bNullsFirst)
+                .orderBy("c", true, cNullsFirst)
+                .orderBy("id", true, false);
+
+        // We need to invert the order when we scroll back
+        boolean inverted = from > to;
+        String expectedQuery = "SELECT k.id, k.b, k.c FROM KeysetEntity2 k WHERE " + keysetCondition + " ORDER BY "
+                + renderNullPrecedence("k.b", inverted ? "DESC" : "ASC", inverted == bNullsFirst ? "LAST" : "FIRST") + ", "
+                + renderNullPrecedence("k.c", inverted ? "DESC" : "ASC", inverted == cNullsFirst ? "LAST" : "FIRST") + ", "
+                + "k.id " + (inverted ? "DESC" : "ASC");
+
+        PaginatedCriteriaBuilder<Tuple> pcb = crit.page(null, from, 1);
+        PagedList<Tuple> result = pcb.getResultList();
+        assertEquals(id1, result.get(0).get(0));
+
+        Serializable[] key = from < to ? result.getKeysetPage().getHighest().getTuple() : result.getKeysetPage().getLowest().getTuple();
+        pcb = crit.page(result.getKeysetPage(), to, 1);
+        result = pcb.getResultList();
+        assertNull(pcb.getPageIdQueryString());
+
+        String actualQuery = pcb.withInlineCountQuery(false).getQueryString();
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != null) {
+                actualQuery = actualQuery.replaceAll(Pattern.quote(":_keysetParameter_" + i), key[i].toString());
+            }
+        }
+
+        assertEquals(expectedQuery, actualQuery);
+        assertEquals(1, result.size());
+        assertEquals(id2, result.get(0).get(0));
+    }
+
+    private void assertRowValueKeysetNavigation(boolean bNullsFirst, int from, int to, Integer id1, Integer id2, String keysetCondition) {
+        CriteriaBuilder<Tuple> crit = cbf.create(em, Tuple.class).from(KeysetEntity2.class, "k")
+                .select("id");
+        crit.orderBy("b", true, bNullsFirst)
+                .orderBy("a", true, false)
+                .orderBy("id", true, false);
+
+        boolean inverted = from > to;
+        String expectedQuery = "SELECT k.id, k.b, k.a FROM KeysetEntity2 k WHERE " + keysetCondition + " ORDER BY "
+                + renderNullPrecedence("k.b", inverted ? "DESC" : "ASC", inverted == bNullsFirst ? "LAST" : "FIRST") + ", "
+                + "k.a " + (inverted ? "DESC" : "ASC") + ", "
+                + "k.id " + (inverted ? "DESC" : "ASC");
+
+        PaginatedCriteriaBuilder<Tuple> pcb = crit.page(null, from, 1);
+        PagedList<Tuple> result = pcb.getResultList();
+        assertEquals(id1, result.get(0).get(0));
+
+        pcb = crit.page(result.getKeysetPage(), to, 1);
+        result = pcb.getResultList();
+
+        assertEquals(expectedQuery, pcb.withInlineCountQuery(false).getQueryString());
+        assertEquals(1, result.size());
+        assertEquals(id2, result.get(0).get(0));
+    }
+}
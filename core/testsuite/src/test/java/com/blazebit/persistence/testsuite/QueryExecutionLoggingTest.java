@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.Queryable;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.model.DocumentViewModel;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+public class QueryExecutionLoggingTest extends AbstractCoreTest {
+
+    private static final String PAGINATED_QUERY_LOGGER = "com.blazebit.persistence.impl.PaginatedTypedQueryImpl";
+    private static final String OBJECT_BUILDER_QUERY_LOGGER = "com.blazebit.persistence.impl.query.ObjectBuilderTypedQuery";
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person o1 = new Person("Karl1");
+                Person o2 = new Person("Karl2");
+
+                Document doc1 = new Document("doc1", o1);
+                Document doc2 = new Document("doc2", o1);
+                Document doc3 = new Document("doc3", o2);
+                doc1.getContacts().put(1, o1);
+                doc1.getContacts().put(2, o2);
+
+                em.persist(o1);
+                em.persist(o2);
+                em.persist(doc1);
+                em.persist(doc2);
+                em.persist(doc3);
+            }
+        });
+    }
+
+    @Test
+    public void paginatedQueriesAreLoggedAtFine() {
+        PaginatedCriteriaBuilder<Tuple> pcb = createPaginatedCriteriaBuilder();
+
+        List<LogRecord> records = executeAndCollectRecords(PAGINATED_QUERY_LOGGER, Level.FINE, pcb);
+
+        assertEquals(3, records.size());
+        // doc1 has two contacts, so the object query returns three rows for the two documents of the page
+        assertRecord(records.get(0), "Paginated count query returned 1 rows in ");
+        assertRecord(records.get(1), "Paginated id query returned 2 rows in ");
+        assertRecord(records.get(2), "Paginated object query returned 3 rows in ");
+    }
+
+    @Test
+    public void objectBuilderQueriesAreLoggedAtFine() {
+        CriteriaBuilder<DocumentViewModel> cb = createObjectBuilderCriteriaBuilder();
+
+        List<LogRecord> records = executeAndCollectRecords(OBJECT_BUILDER_QUERY_LOGGER, Level.FINE, cb);
+
+        assertEquals(1, records.size());
+        assertEquals(Level.FINE, records.get(0).getLevel());
+        String message = records.get(0).getMessage();
+        assertTrue(message, message.startsWith("Query execution for 3 rows took "));
+        assertTrue(message, message.contains("us for query: SELECT document.name FROM Document document"));
+    }
+
+    @Test
+    public void nothingIsLoggedAtInfo() {
+        assertEquals(0, executeAndCollectRecords(PAGINATED_QUERY_LOGGER, Level.INFO, createPaginatedCriteriaBuilder()).size());
+        assertEquals(0, executeAndCollectRecords(OBJECT_BUILDER_QUERY_LOGGER, Level.INFO, createObjectBuilderCriteriaBuilder()).size());
+    }
+
+    private PaginatedCriteriaBuilder<Tuple> createPaginatedCriteriaBuilder() {
+        return cbf.create(em, Tuple.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .select("c.name")
+                .leftJoin("d.contacts", "c")
+                .orderByAsc("d.id")
+                .page(0, 2)
+                .withInlineIdQuery(false)
+                .withInlineCountQuery(false);
+    }
+
+    private CriteriaBuilder<DocumentViewModel> createObjectBuilderCriteriaBuilder() {
+        return cbf.create(em, Document.class)
+                .selectNew(DocumentViewModel.class).with("name").end()
+                .orderByAsc("id");
+    }
+
+    private static void assertRecord(LogRecord record, String messagePrefix) {
+        assertEquals(Level.FINE, record.getLevel());
+        String message = record.getMessage();
+        assertTrue(message, message.startsWith(messagePrefix));
+        // The query string is appended to the timing information
+        assertTrue(message, message.contains("us: SELECT "));
+        assertTrue(message, message.contains(" FROM Document d"));
+    }
+
+    private static List<LogRecord> executeAndCollectRecords(String loggerName, Level level, Queryable<?, ?> queryable) {
+        final List<LogRecord> records = new ArrayList<>();
+        Logger logger = Logger.getLogger(loggerName);
+        Level oldLevel = logger.getLevel();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        logger.setLevel(level);
+        logger.addHandler(handler);
+        try {
+            queryable.getResultList();
+        } finally {
+            logger.removeHandler(handler);
+            logger.setLevel(oldLevel);
+        }
+        return records;
+    }
+}
@@ -245,6 +245,16 @@ public final class ConfigurationProperties {
      * @since 1.5.0
      */
     public static final String CREATE_EMPTY_FLAT_VIEWS = "com.blazebit.persistence.view.create_empty_flat_views";
+    /**
+     * An integer value that defines how many batch queries a correlated attribute may execute for a single result
+     * before a warning is logged. Exceeding the threshold usually means that the batch size is too small or that a
+     * different fetch strategy like {@linkplain com.blazebit.persistence.view.FetchStrategy#SUBSELECT} or
+     * {@linkplain com.blazebit.persistence.view.FetchStrategy#MULTISET} would be a better fit for the attribute.
+     * By default the value is 0 which disables the check. The property can be set via {@linkplain com.blazebit.persistence.view.EntityViewSetting#setProperty}.
+     *
+     * @since 1.6.16
+     */
+    public static final String CORRELATION_QUERY_WARN_THRESHOLD = "com.blazebit.persistence.view.correlation_query_warn_threshold";
 
     private ConfigurationProperties() {
     }
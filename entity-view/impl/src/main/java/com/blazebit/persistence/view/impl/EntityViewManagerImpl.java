@@ -30,6 +30,7 @@ import com.blazebit.persistence.view.ConvertOption;
 import com.blazebit.persistence.view.EntityViewBuilder;
 import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FetchStrategy;
 import com.blazebit.persistence.view.FlushOperationBuilder;
 import com.blazebit.persistence.view.PostCommitListener;
 import com.blazebit.persistence.view.PostPersistEntityListener;
@@ -122,6 +123,8 @@ import com.blazebit.persistence.view.metamodel.MethodPluralAttribute;
 import com.blazebit.persistence.view.metamodel.MethodSingularAttribute;
 import com.blazebit.persistence.view.metamodel.PluralAttribute;
 import com.blazebit.persistence.view.metamodel.SingularAttribute;
+import com.blazebit.persistence.view.metamodel.Type;
+import com.blazebit.persistence.view.metamodel.ViewMetamodel;
 import com.blazebit.persistence.view.metamodel.ViewType;
 import com.blazebit.persistence.view.spi.EmbeddingViewJpqlMacro;
 import com.blazebit.persistence.view.spi.TransactionSupport;
@@ -146,11 +149,14 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  *
@@ -159,6 +165,7 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class EntityViewManagerImpl implements EntityViewManager {
 
+    private static final Logger LOG = Logger.getLogger(EntityViewManagerImpl.class.getName());
     private static final String META_MODEL_CLASS_NAME_SUFFIX = "_";
     private static final String RELATION_CLASS_NAME_SUFFIX = "Relation";
     private static final String MULTI_RELATION_CLASS_NAME_SUFFIX = "MultiRelation";
@@ -197,7 +204,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
     private final Map<String, Class<? extends AttributeFilterProvider>> filterMappings;
     private final Map<Class<?>, Set<Class<?>>> javaTypeToManagedTypeJavaTypes;
     private final Map<Class<?>, Listeners> listeners; // A mapping from JPA managed type java type and entity view java type to listeners
-    private final Map<Class<?>, Set<Class<?>>> convertibleManagedViewTypes;
+    private final ConcurrentMap<Class<?>, Set<Class<?>>> convertibleManagedViewTypes;
     private final Map<ViewBuilderKey, Constructor<? extends EntityViewBuilder<?>>> viewBuilderClasses;
     private final boolean unsafeDisabled;
     private final boolean strictCascadingCheck;
@@ -308,7 +315,6 @@ public class EntityViewManagerImpl implements EntityViewManager {
 
         this.javaTypeToManagedTypeJavaTypes = javaTypeToManagedTypeJavaTypes;
 
-        Map<Class<?>, Set<Class<?>>> convertibleManagedViewTypes = new HashMap<>();
         Map<Class<?>, Listeners> listeners = new HashMap<>();
         Map<ViewBuilderKey, Constructor<? extends EntityViewBuilder<?>>> viewBuilderConstructors = new HashMap<>();
         Map<Class<?>, Constructor<?>> relationConstructors = new HashMap<>(viewMetamodel.getManagedViews().size());
@@ -353,15 +359,6 @@ public class EntityViewManagerImpl implements EntityViewManager {
             if (scanStaticBuilder) {
                 initializeStaticBuilder(errors, managedView, viewBuilderConstructors);
             }
-
-            HashSet<Class<?>> classes = new HashSet<>();
-            convertibleManagedViewTypes.put(javaType, classes);
-
-            for (ManagedViewType<?> targetType : viewMetamodel.getManagedViews()) {
-                if (isConvertible(managedView, targetType)) {
-                    classes.add(targetType.getJavaType());
-                }
-            }
         }
 
         if (!errors.isEmpty()) {
@@ -376,7 +373,8 @@ public class EntityViewManagerImpl implements EntityViewManager {
             throw new IllegalArgumentException(sb.toString(), exception);
         }
 
-        this.convertibleManagedViewTypes = convertibleManagedViewTypes;
+        // The convertible view types are only needed for entity view lifecycle listeners, so we determine them lazily per view type
+        this.convertibleManagedViewTypes = new ConcurrentHashMap<>();
         this.viewBuilderClasses = viewBuilderConstructors;
 
         for (Map.Entry<EntityViewListenerClassKey, EntityViewListenerFactory<?>> entry : config.getBootContext().getViewListeners().entrySet()) {
@@ -447,6 +445,63 @@ public class EntityViewManagerImpl implements EntityViewManager {
                 getUpdater(null, (ManagedViewTypeImplementor<?>) view, null, null, null);
             }
         }
+
+        if (LOG.isLoggable(Level.FINE)) {
+            logCartesianProductCandidates(metamodel);
+        }
+    }
+
+    private static void logCartesianProductCandidates(ViewMetamodel metamodel) {
+        for (ViewType<?> view : metamodel.getViews()) {
+            Set<String> joinFetchedPluralAttributes = new LinkedHashSet<>();
+            // Only plural attributes on independent join paths multiply the result set size, a nested chain like items.tags does not
+            if (getIndependentJoinFetchedPluralAttributeCount(view, "", joinFetchedPluralAttributes, new HashSet<ManagedViewType<?>>()) > 1) {
+                LOG.fine("The entity view '" + view.getJavaType().getName() + "' fetches the plural attributes " + joinFetchedPluralAttributes
+                        + " with the JOIN fetch strategy in a single query which produces a cartesian product. "
+                        + "Consider using the MULTISET or SUBSELECT fetch strategy for some of them if the collections are big.");
+            }
+        }
+    }
+
+    private static int getIndependentJoinFetchedPluralAttributeCount(ManagedViewType<?> viewType, String prefix, Set<String> joinFetchedPluralAttributes, Set<ManagedViewType<?>> visitedViewTypes) {
+        if (!visitedViewTypes.add(viewType)) {
+            return 0;
+        }
+        // An object is only ever of one subtype, so the subtype with the most independent plural attributes determines the count
+        int count = getIndependentJoinFetchedPluralAttributeCount0(viewType, prefix, joinFetchedPluralAttributes, visitedViewTypes);
+        for (ManagedViewType<?> subtype : viewType.getInheritanceSubtypes()) {
+            if (subtype != viewType) {
+                count = Math.max(count, getIndependentJoinFetchedPluralAttributeCount0(subtype, prefix, joinFetchedPluralAttributes, visitedViewTypes));
+            }
+        }
+        visitedViewTypes.remove(viewType);
+        return count;
+    }
+
+    private static int getIndependentJoinFetchedPluralAttributeCount0(ManagedViewType<?> viewType, String prefix, Set<String> joinFetchedPluralAttributes, Set<ManagedViewType<?>> visitedViewTypes) {
+        int count = 0;
+        for (MethodAttribute<?, ?> attribute : viewType.getAttributes()) {
+            if (attribute.getFetchStrategy() != FetchStrategy.JOIN) {
+                continue;
+            }
+            String path = prefix + attribute.getName();
+            if (attribute.isCollection()) {
+                joinFetchedPluralAttributes.add(path);
+                Type<?> elementType = ((PluralAttribute<?, ?, ?>) attribute).getElementType();
+                int elementCount = 0;
+                if (elementType instanceof ManagedViewType<?>) {
+                    elementCount = getIndependentJoinFetchedPluralAttributeCount((ManagedViewType<?>) elementType, path + ".", joinFetchedPluralAttributes, visitedViewTypes);
+                }
+                // Nested plural attributes are on the same join path as this one
+                count += Math.max(1, elementCount);
+            } else {
+                Type<?> type = ((SingularAttribute<?, ?>) attribute).getType();
+                if (type instanceof ManagedViewType<?>) {
+                    count += getIndependentJoinFetchedPluralAttributeCount((ManagedViewType<?>) type, path + ".", joinFetchedPluralAttributes, visitedViewTypes);
+                }
+            }
+        }
+        return count;
     }
 
     private static String getMetamodelClassName(Class<?> javaType) {
@@ -625,13 +680,23 @@ public class EntityViewManagerImpl implements EntityViewManager {
         }
     }
 
-    private boolean isConvertible(ManagedViewType<?> sourceType, ManagedViewType<?> targetType) {
+    private boolean isConvertible(ManagedViewType<?> sourceType, ManagedViewType<?> targetType, Map<ConvertibleTypesKey, Boolean> convertibleTypesCache) {
         if (targetType.getJavaType().isAssignableFrom(sourceType.getJavaType())) {
             return true;
         }
         if (!targetType.getEntityClass().isAssignableFrom(sourceType.getEntityClass())) {
             return false;
         }
+        ConvertibleTypesKey key = new ConvertibleTypesKey(sourceType, targetType);
+        Boolean convertible = convertibleTypesCache.get(key);
+        if (convertible == null) {
+            convertible = isAttributesConvertible(sourceType, targetType, convertibleTypesCache);
+            convertibleTypesCache.put(key, convertible);
+        }
+        return convertible;
+    }
+
+    private boolean isAttributesConvertible(ManagedViewType<?> sourceType, ManagedViewType<?> targetType, Map<ConvertibleTypesKey, Boolean> convertibleTypesCache) {
         Set<MethodAttribute<?, ?>> attributes = (Set<MethodAttribute<?, ?>>) targetType.getAttributes();
         if (attributes.size() > sourceType.getAttributes().size()) {
             return false;
@@ -651,7 +716,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
                     return false;
                 }
                 if (targetAttribute.isSubview()) {
-                    if (!sourceAttribute.isSubview() || !isConvertible((ManagedViewType<?>) sourcePluralAttribute.getElementType(), (ManagedViewType<?>) targetPluralAttribute.getElementType())) {
+                    if (!sourceAttribute.isSubview() || !isConvertible((ManagedViewType<?>) sourcePluralAttribute.getElementType(), (ManagedViewType<?>) targetPluralAttribute.getElementType(), convertibleTypesCache)) {
                         return false;
                     }
 
@@ -659,7 +724,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
                         MapAttribute<?, ?, ?> targetMapAttr = (MapAttribute<?, ?, ?>) targetAttribute;
                         MapAttribute<?, ?, ?> sourceMapAttr = (MapAttribute<?, ?, ?>) sourceAttribute;
                         if (targetMapAttr.isKeySubview()) {
-                            if (!sourceMapAttr.isKeySubview() || !isConvertible((ManagedViewType<?>) sourceMapAttr.getKeyType(), (ManagedViewType<?>) targetMapAttr.getKeyType())) {
+                            if (!sourceMapAttr.isKeySubview() || !isConvertible((ManagedViewType<?>) sourceMapAttr.getKeyType(), (ManagedViewType<?>) targetMapAttr.getKeyType(), convertibleTypesCache)) {
                                 return false;
                             }
                         } else {
@@ -674,7 +739,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
                     }
                 }
             } else if (targetAttribute.isSubview()) {
-                return sourceAttribute.isSubview() && !sourceAttribute.isCollection() && isConvertible((ManagedViewType<?>) ((SingularAttribute<?, ?>) sourceAttribute).getType(), (ManagedViewType<?>) ((SingularAttribute<?, ?>) targetAttribute).getType());
+                return sourceAttribute.isSubview() && !sourceAttribute.isCollection() && isConvertible((ManagedViewType<?>) ((SingularAttribute<?, ?>) sourceAttribute).getType(), (ManagedViewType<?>) ((SingularAttribute<?, ?>) targetAttribute).getType(), convertibleTypesCache);
             } else if (targetAttribute.getConvertedJavaType() != sourceAttribute.getConvertedJavaType()) {
                 return false;
             }
@@ -690,8 +755,25 @@ public class EntityViewManagerImpl implements EntityViewManager {
         return listeners;
     }
 
-    public Map<Class<?>, Set<Class<?>>> getConvertibleManagedViewTypes() {
-        return convertibleManagedViewTypes;
+    public Set<Class<?>> getConvertibleManagedViewTypes(Class<?> entityViewClass) {
+        Set<Class<?>> classes = convertibleManagedViewTypes.get(entityViewClass);
+        if (classes == null) {
+            ManagedViewTypeImplementor<?> managedView = metamodel.managedView(entityViewClass);
+            Set<Class<?>> convertibleClasses = new HashSet<>();
+            // The convertibility check descends into subview attributes, so we cache the results to avoid checking the same subview pairs over and over again
+            Map<ConvertibleTypesKey, Boolean> convertibleTypesCache = new HashMap<>();
+            for (ManagedViewType<?> targetType : metamodel.getManagedViews()) {
+                if (isConvertible(managedView, targetType, convertibleTypesCache)) {
+                    convertibleClasses.add(targetType.getJavaType());
+                }
+            }
+            classes = Collections.unmodifiableSet(convertibleClasses);
+            Set<Class<?>> oldClasses = convertibleManagedViewTypes.putIfAbsent(entityViewClass, classes);
+            if (oldClasses != null) {
+                classes = oldClasses;
+            }
+        }
+        return classes;
     }
 
     public ManagedViewType<?> getListenerManagedView(Class<?> listenerClass, Class<?> listenerKindClass) {
@@ -1595,4 +1677,42 @@ public class EntityViewManagerImpl implements EntityViewManager {
             return result;
         }
     }
+
+    /**
+     * @author agent
+     * @since 1.6.16
+     */
+    private static class ConvertibleTypesKey {
+        private final ManagedViewType<?> sourceType;
+        private final ManagedViewType<?> targetType;
+
+        public ConvertibleTypesKey(ManagedViewType<?> sourceType, ManagedViewType<?> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConvertibleTypesKey)) {
+                return false;
+            }
+
+            ConvertibleTypesKey that = (ConvertibleTypesKey) o;
+
+            if (!sourceType.equals(that.sourceType)) {
+                return false;
+            }
+            return targetType.equals(that.targetType);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = sourceType.hashCode();
+            result = 31 * result + targetType.hashCode();
+            return result;
+        }
+    }
 }
@@ -63,10 +63,11 @@ public final class CollectionOperations {
                 return false;
             } else {
                 if (addedElements != objectsToAdd) {
+                    Collection<?> objectsToAddLookup = RecordingUtils.lookupCollection(objectsToAdd, addedElements.size());
                     Iterator<Object> iterator = addedElements.iterator();
                     while (iterator.hasNext()) {
                         Object o = iterator.next();
-                        if (!objectsToAdd.contains(o)) {
+                        if (!objectsToAddLookup.contains(o)) {
                             iterator.remove();
                             recordingCollection.addAddedElement(o);
                         }
@@ -92,10 +93,11 @@ public final class CollectionOperations {
                     removeAction.onRemoveObjects(objectsToRemove);
                 } else {
                     if (removedElements != objectsToRemove) {
+                        Collection<?> objectsToRemoveLookup = RecordingUtils.lookupCollection(objectsToRemove, removedElements.size());
                         Iterator<Object> iterator = removedElements.iterator();
                         while (iterator.hasNext()) {
                             Object o = iterator.next();
-                            if (!objectsToRemove.contains(o)) {
+                            if (!objectsToRemoveLookup.contains(o)) {
                                 iterator.remove();
                                 recordingCollection.addRemovedElement(o);
                             }
@@ -8,10 +8,13 @@ package com.blazebit.persistence.view.impl.collection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -20,10 +23,16 @@ import java.util.Map;
  */
 public final class RecordingUtils {
 
+    // Up to this amount of element comparisons, scanning lists is cheaper than building hash based lookup structures
+    private static final int LINEAR_SCAN_THRESHOLD = 256;
+
     private RecordingUtils() {
     }
 
     public static Collection<Object> compensateObjects(Collection<?> elements, Collection<Object> objectsToCompensate) {
+        if (elements instanceof List<?> && (long) elements.size() * objectsToCompensate.size() > LINEAR_SCAN_THRESHOLD) {
+            return compensateListObjects((List<Object>) elements, objectsToCompensate);
+        }
         List<Object> newObjectsToRemove = null;
         // Initialize the new collection if we found an overlap
         for (Object o : objectsToCompensate) {
@@ -47,6 +56,67 @@ public final class RecordingUtils {
         return newObjectsToRemove;
     }
 
+    private static Collection<Object> compensateListObjects(List<Object> elements, Collection<Object> objectsToCompensate) {
+        // Count the occurrences of the elements so we don't have to scan the list for every object
+        Map<Object, int[]> elementCounts = new HashMap<>(elements.size());
+        for (Object element : elements) {
+            int[] count = elementCounts.get(element);
+            if (count == null) {
+                elementCounts.put(element, new int[]{ 1 });
+            } else {
+                count[0]++;
+            }
+        }
+
+        List<Object> newObjectsToRemove = new ArrayList<>(objectsToCompensate.size());
+        Map<Object, int[]> compensatedCounts = null;
+        for (Object o : objectsToCompensate) {
+            int[] count = elementCounts.get(o);
+            if (count == null || count[0] == 0) {
+                newObjectsToRemove.add(o);
+            } else {
+                count[0]--;
+                if (compensatedCounts == null) {
+                    compensatedCounts = new HashMap<>();
+                }
+                int[] compensatedCount = compensatedCounts.get(o);
+                if (compensatedCount == null) {
+                    compensatedCounts.put(o, new int[]{ 1 });
+                } else {
+                    compensatedCount[0]++;
+                }
+            }
+        }
+
+        // If nothing was compensated, there's no overlap
+        if (compensatedCounts == null) {
+            return objectsToCompensate;
+        }
+
+        // Remove the first occurrences of the compensated objects like List.remove(Object) would, but in a single pass
+        List<Object> remainingElements = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            int[] compensatedCount = compensatedCounts.get(element);
+            if (compensatedCount == null || compensatedCount[0] == 0) {
+                remainingElements.add(element);
+            } else {
+                compensatedCount[0]--;
+            }
+        }
+        elements.clear();
+        elements.addAll(remainingElements);
+
+        return newObjectsToRemove;
+    }
+
+    public static Collection<?> lookupCollection(Collection<?> objects, int lookups) {
+        // Sets already provide fast lookups, possibly based on identity, so we only replace other collections
+        if (!(objects instanceof Set<?>) && (long) objects.size() * lookups > LINEAR_SCAN_THRESHOLD) {
+            return new HashSet<>(objects);
+        }
+        return objects;
+    }
+
     public static List<Object> replaceElements(Collection<?> elements, Object oldElem, Object elem) {
         List<Object> newElements = null;
 
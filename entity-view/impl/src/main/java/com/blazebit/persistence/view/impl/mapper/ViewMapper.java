@@ -567,7 +567,8 @@ public class ViewMapper<S, T> {
                     newMap = (Map<Object, Object>) recordingMap;
                     if (tryCopyDirtyState) {
                         backingMap = (Map<Object, Object>) recordingMap.getDelegate();
-                        if (map instanceof RecordingMap<?, ?, ?> && (keyMapper != null || valueMapper != null)) {
+                        // The object mapping is only needed to replace the objects of recorded actions, so we skip it if there are none
+                        if (map instanceof RecordingMap<?, ?, ?> && ((RecordingMap<?, ?, ?>) map).getActions() != null && (keyMapper != null || valueMapper != null)) {
                             // We have to map the removed objects separately as these might be required for cascading actions
                             objectMapping = new IdentityHashMap<>(map.size() * 2);
                             if (keyMapper != null) {
@@ -669,7 +670,8 @@ public class ViewMapper<S, T> {
                     newCollection = (Collection<Object>) coll;
                     if (tryCopyDirtyState) {
                         backingCollection = (Collection<Object>) coll.getDelegate();
-                        if (collection instanceof RecordingCollection<?, ?> && valueMapper != null) {
+                        // The object mapping is only needed to replace the objects of recorded actions, so we skip it if there are none
+                        if (collection instanceof RecordingCollection<?, ?> && ((RecordingCollection<?, ?>) collection).getActions() != null && valueMapper != null) {
                             objectMapping = new IdentityHashMap<>(collection.size());
                             for (Object e : ((RecordingCollection<?, ?>) collection).getRemovedElements()) {
                                 objectMapping.put(e, valueMapper.map(e, optionalParameters));
@@ -9,6 +9,7 @@ import com.blazebit.persistence.view.impl.collection.CollectionInstantiatorImple
 import com.blazebit.persistence.view.impl.collection.RecordingCollection;
 import com.blazebit.persistence.view.impl.collection.RecordingList;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -77,6 +78,10 @@ public class CollectionInstantiatorAccumulator implements ContainerAccumulator<C
                 }
             } else {
                 if (index > size) {
+                    if (list instanceof ArrayList<?>) {
+                        // Avoid growing the list step by step when filling the gap up to the index
+                        ((ArrayList<Object>) list).ensureCapacity(index + 1);
+                    }
                     for (int i = size; i < index; i++) {
                         list.add(null);
                     }
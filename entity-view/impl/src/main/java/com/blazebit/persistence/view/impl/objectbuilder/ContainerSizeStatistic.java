@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the rows per parent of a single result, so that the containers that are built for a plural attribute
+ * can be pre-sized by the data of that result instead of growing repeatedly.
+ *
+ * The row count of a parent is only an upper bound for the container size, as rows might be multiplied by joins of other collections.
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+public final class ContainerSizeStatistic {
+
+    // Avoid over-allocating containers that stay with the views when rows are multiplied by joins of other collections
+    static final int MAX_EXPECTED_SIZE = 64;
+
+    private final TupleId[] tupleIds;
+    private final Map<TupleId, int[]> rowCounts;
+
+    public ContainerSizeStatistic(int[] parentIdPositions, List<Object[]> tuples) {
+        this.tupleIds = new TupleId[tuples.size()];
+        this.rowCounts = new HashMap<>(tuples.size());
+        int i = 0;
+        for (Object[] tuple : tuples) {
+            TupleId id = new TupleId(parentIdPositions, tuple);
+            tupleIds[i++] = id;
+            if (!id.isEmpty()) {
+                int[] rowCount = rowCounts.get(id);
+                if (rowCount == null) {
+                    rowCounts.put(id, new int[]{ 1 });
+                } else {
+                    rowCount[0]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the parent id of the tuple at the given position of the original tuple list.
+     *
+     * @param index The position of the tuple
+     * @return The parent id
+     */
+    public TupleId getTupleId(int index) {
+        return tupleIds[index];
+    }
+
+    public int getExpectedSize(TupleId id) {
+        int[] rowCount = rowCounts.get(id);
+        if (rowCount == null) {
+            return 0;
+        }
+        return Math.min(rowCount[0], MAX_EXPECTED_SIZE);
+    }
+}
@@ -6,6 +6,7 @@
 package com.blazebit.persistence.view.impl.objectbuilder.transformer;
 
 import com.blazebit.persistence.view.impl.objectbuilder.ContainerAccumulator;
+import com.blazebit.persistence.view.impl.objectbuilder.ContainerSizeStatistic;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleId;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleIndexValue;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleReuse;
@@ -50,11 +51,14 @@ public class IndexedTupleListTransformer extends TupleListTransformer {
     @Override
     public List<Object[]> transform(List<Object[]> tuples) {
         Map<TupleId, TupleIndexValue> tupleIndex = new HashMap<TupleId, TupleIndexValue>(tuples.size());
+        // Count the rows per parent upfront so that we can size the containers by the data of this result
+        ContainerSizeStatistic containerSizeStatistic = new ContainerSizeStatistic(parentIdPositions, tuples);
         Iterator<Object[]> tupleListIter = tuples.iterator();
+        int index = 0;
 
         while (tupleListIter.hasNext()) {
             Object[] tuple = tupleListIter.next();
-            TupleId id = new TupleId(parentIdPositions, tuple);
+            TupleId id = containerSizeStatistic.getTupleId(index++);
             // Skip constructing the collection and removing tuples when the parent is empty i.e. null
             if (!id.isEmpty()) {
                 TupleIndexValue tupleIndexValue = tupleIndex.get(id);
@@ -62,7 +66,7 @@ public class IndexedTupleListTransformer extends TupleListTransformer {
                 // At startIndex we have the index/key of the list/map
                 // At valueStartIndex is the actual element that should be put into the collection
                 if (tupleIndexValue == null) {
-                    Object collection = containerAccumulator.createContainer(dirtyTracking, 0);
+                    Object collection = containerAccumulator.createContainer(dirtyTracking, containerSizeStatistic.getExpectedSize(id));
                     tupleIndexValue = new TupleIndexValue(collection, tuple, startIndex, valueOffset + 1);
                     Object key = tuple[startIndex];
                     add(collection, key, tuple[valueStartIndex]);
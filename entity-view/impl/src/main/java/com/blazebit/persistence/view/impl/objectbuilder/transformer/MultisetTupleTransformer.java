@@ -57,8 +57,10 @@ public class MultisetTupleTransformer implements TupleTransformer {
 
     @Override
     public Object[] transform(Object[] tuple, UpdatableViewMap updatableViewMap) {
-        Object collection = containerAccumulator.createContainer(dirtyTracking, 0);
-        if (tuple[startIndex] != null) {
+        Object collection;
+        if (tuple[startIndex] == null) {
+            collection = containerAccumulator.createContainer(dirtyTracking, 0);
+        } else {
             List<Object[]> objects = (List<Object[]>) tuple[startIndex];
             for (int i = 0; i < objects.size(); i++) {
                 Object[] elementTuple = objects.get(i);
@@ -72,6 +74,8 @@ public class MultisetTupleTransformer implements TupleTransformer {
                 // Before building the subviews, apply the tuple transformator on the nested set in isolation
                 tupleTransformator.transformAll(objects);
             }
+            // The element count is known upfront, so avoid growing the container
+            collection = containerAccumulator.createContainer(dirtyTracking, objects.size());
             for (int i = 0; i < objects.size(); i++) {
                 Object indexObject = null;
                 if (indexSubviewTupleTransformer != null) {
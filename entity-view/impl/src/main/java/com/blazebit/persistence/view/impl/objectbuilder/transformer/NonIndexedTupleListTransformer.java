@@ -14,6 +14,7 @@ import java.util.Map;
 
 import com.blazebit.persistence.view.impl.collection.CollectionInstantiatorImplementor;
 import com.blazebit.persistence.view.impl.collection.RecordingCollection;
+import com.blazebit.persistence.view.impl.objectbuilder.ContainerSizeStatistic;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleId;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleIndexValue;
 import com.blazebit.persistence.view.spi.type.TypeConverter;
@@ -46,17 +47,20 @@ public class NonIndexedTupleListTransformer extends TupleListTransformer {
     @Override
     public List<Object[]> transform(List<Object[]> tuples) {
         Map<TupleId, TupleIndexValue> tupleIndex = new HashMap<>(tuples.size());
+        // Count the rows per parent upfront so that we can size the containers by the data of this result
+        ContainerSizeStatistic containerSizeStatistic = new ContainerSizeStatistic(parentIdPositions, tuples);
         Iterator<Object[]> tupleListIter = tuples.iterator();
+        int index = 0;
 
         while (tupleListIter.hasNext()) {
             Object[] tuple = tupleListIter.next();
-            TupleId id = new TupleId(parentIdPositions, tuple);
+            TupleId id = containerSizeStatistic.getTupleId(index++);
             // Skip constructing the collection and removing tuples when the parent is empty i.e. null
             if (!id.isEmpty()) {
                 TupleIndexValue tupleIndexValue = tupleIndex.get(id);
 
                 if (tupleIndexValue == null) {
-                    Object collection = createCollection();
+                    Object collection = createCollection(containerSizeStatistic.getExpectedSize(id));
                     tupleIndexValue = new TupleIndexValue(collection, tuple, startIndex, 1);
                     add(collection, tuple[startIndex]);
                     tuple[startIndex] = collection;
@@ -88,11 +92,11 @@ public class NonIndexedTupleListTransformer extends TupleListTransformer {
         return tuples;
     }
 
-    protected Object createCollection() {
+    protected Object createCollection(int size) {
         if (dirtyTracking) {
-            return collectionInstantiator.createRecordingCollection(0);
+            return collectionInstantiator.createRecordingCollection(size);
         } else {
-            return collectionInstantiator.createCollection(0);
+            return collectionInstantiator.createCollection(size);
         }
     }
 
@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.logging.Logger;
 
 /**
  *
@@ -44,6 +45,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
 
     public static final String CORRELATION_KEY_ALIAS = "correlationKey";
     private static final String CORRELATION_PARAM_PREFIX = "correlationParam_";
+    private static final Logger LOG = Logger.getLogger(AbstractCorrelatedBatchTupleListTransformer.class.getName());
 
     protected final int batchSize;
     protected final boolean correlatesThis;
@@ -57,6 +59,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
     protected CorrelatedSubqueryViewRootJpqlMacro viewRootJpqlMacro;
     protected CorrelatedSubqueryEmbeddingViewJpqlMacro embeddingViewJpqlMacro;
     protected Query query;
+    private int batchQueryCount;
 
     public AbstractCorrelatedBatchTupleListTransformer(ExpressionFactory ef, Correlator correlator, ContainerAccumulator<?> containerAccumulator, ManagedViewTypeImplementor<?> viewRootType, ManagedViewTypeImplementor<?> embeddingViewType, Expression correlationResult, CorrelationProviderFactory correlationProviderFactory, String attributePath, String[] fetches, String[] indexFetches,
                                                        Expression indexExpression, Correlator indexCorrelator, boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int defaultBatchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration) {
@@ -114,6 +117,8 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
         }
 
         this.criteriaBuilder = queryBuilder.getCriteriaBuilderFactory().create(queryBuilder.getEntityManager(), Object[].class);
+        // The batch queries still run for every result, but are made cacheable along with a cacheable entity view query so their results can be served from the query cache
+        this.criteriaBuilder.setCacheable(queryBuilder.isCacheable());
         if (queryBuilder instanceof CTEBuilder<?>) {
             this.criteriaBuilder.withCtesFrom((CTEBuilder<?>) queryBuilder);
         }
@@ -180,6 +185,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
 
     @Override
     public List<Object[]> transform(List<Object[]> tuples) {
+        batchQueryCount = 0;
         FixedArrayList correlationParams = new FixedArrayList(batchSize);
         // We have the correlation key on the first position if we do batching
         final int tupleOffset = (batchSize > 1 ? 1 : 0) + (indexCorrelator == null && indexExpression == null ? 0 : 1);
@@ -271,9 +277,19 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
         }
 
         consumeTupleMacroViewValues(tuples);
+        checkBatchQueryCount(tuples.size());
         return tuples;
     }
 
+    private void checkBatchQueryCount(int tupleCount) {
+        int threshold = entityViewConfiguration.getCorrelationQueryWarnThreshold();
+        if (threshold > 0 && batchQueryCount > threshold) {
+            LOG.warning("The correlated attribute '" + embeddingViewType.getJavaType().getName() + "." + attributePath.substring(attributePath.lastIndexOf('.') + 1)
+                    + "' executed " + batchQueryCount + " batch queries with a batch size of " + batchSize + " for " + tupleCount + " tuples, which exceeds the configured threshold of " + threshold + ". "
+                    + "Consider increasing the batch size or using the fetch strategy SUBSELECT or MULTISET for this attribute.");
+        }
+    }
+
     @Override
     protected void populateParameters(FullQueryBuilder<?, ?> queryBuilder) {
         FullQueryBuilder<?, ?> mainBuilder = entityViewConfiguration.getCriteriaBuilder();
@@ -477,6 +493,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
             }
         }
 
+        batchQueryCount++;
         populateResult(correlationValues, defaultKey, (List<Object>) query.getResultList());
 
         batchParameters.reset();
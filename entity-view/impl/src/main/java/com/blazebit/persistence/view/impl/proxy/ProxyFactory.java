@@ -105,6 +105,8 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
 /**
@@ -123,7 +125,8 @@ public class ProxyFactory {
     private final ConcurrentMap<Class<?>, Class<?>> proxyClasses = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, Class<?>> unsafeProxyClasses = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, Class<?>> proxyClassesToViewClasses = new ConcurrentHashMap<>();
-    private final Object proxyLock = new Object();
+    // Use an explicit lock rather than a monitor so that virtual threads are not pinned while generating classes
+    private final Lock proxyLock = new ReentrantLock();
     private final ClassPool pool;
     private final boolean unsafeDisabled;
     private final boolean strictCascadingCheck;
@@ -246,13 +249,16 @@ public class ProxyFactory {
 
         // Double checked locking since we can only define the class once
         if (proxyClass == null) {
-            synchronized (proxyLock) {
+            proxyLock.lock();
+            try {
                 proxyClass = (Class<? extends T>) classes.get(clazz);
                 if (proxyClass == null) {
                     proxyClass = createProxyClass(entityViewManager, viewType, unsafe);
                     classes.put(clazz, proxyClass);
                     proxyClassesToViewClasses.put(proxyClass, clazz);
                 }
+            } finally {
+                proxyLock.unlock();
             }
         }
 
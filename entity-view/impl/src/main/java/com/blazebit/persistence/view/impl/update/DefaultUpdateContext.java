@@ -139,13 +139,12 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
             cachedViews = new ArrayList<>();
             viewCache.put(entityKey, cachedViews);
         } else {
-            Map<Class<?>, Set<Class<?>>> convertibleManagedViewTypes = evm.getConvertibleManagedViewTypes();
             EntityViewProxy conversionCandidate = null;
             for (ViewCacheEntry entry : cachedViews) {
                 if (prePhase == entry.fromPrePhase) {
                     if (viewType.isInstance(entry.view)) {
                         return entry.view;
-                    } else if (conversionCandidate == null && convertibleManagedViewTypes.get(entry.view.$$_getEntityViewClass()).contains(viewType)) {
+                    } else if (conversionCandidate == null && evm.getConvertibleManagedViewTypes(entry.view.$$_getEntityViewClass()).contains(viewType)) {
                         conversionCandidate = entry.view;
                     }
                 }
@@ -156,7 +155,7 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
                 return conversionCandidate;
             }
         }
-        if (view != null && evm.getConvertibleManagedViewTypes().get(view.$$_getEntityViewClass()).contains(viewType)) {
+        if (view != null && evm.getConvertibleManagedViewTypes(view.$$_getEntityViewClass()).contains(viewType)) {
             view = (EntityViewProxy) evm.convert(view, viewType);
             cachedViews.add(new ViewCacheEntry(view, prePhase));
             return view;
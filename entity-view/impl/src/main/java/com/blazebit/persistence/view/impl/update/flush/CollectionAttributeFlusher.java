@@ -21,6 +21,7 @@ import com.blazebit.persistence.view.impl.collection.CollectionInstantiatorImple
 import com.blazebit.persistence.view.impl.collection.CollectionRemoveAllAction;
 import com.blazebit.persistence.view.impl.collection.CollectionRemoveListener;
 import com.blazebit.persistence.view.impl.collection.RecordingCollection;
+import com.blazebit.persistence.view.impl.collection.RecordingUtils;
 import com.blazebit.persistence.view.impl.entity.ViewToEntityMapper;
 import com.blazebit.persistence.view.impl.update.EntityViewUpdater;
 import com.blazebit.persistence.view.impl.update.UpdateContext;
@@ -418,10 +419,11 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
                 } else {
                     // Fetch the collection elements so we can create a diff and only remove what is not contained in value
                     Collection<Object> currentReferences = inverseFlusher.loadByOwnerId(context, ((EntityViewProxy) ownerView).$$_getId());
+                    Collection<?> valueLookup = RecordingUtils.lookupCollection(value, currentReferences.size());
                     Iterator<Object> iterator = currentReferences.iterator();
                     while (iterator.hasNext()) {
                         Object element = iterator.next();
-                        if (value.contains(element)) {
+                        if (valueLookup.contains(element)) {
                             iterator.remove();
                         }
                     }
@@ -467,9 +469,9 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
             } else {
                 elementsToAdd = getEntityReferencesForCollectionOperation(context, (Collection<Object>) value);
             }
-            removedAllObjects.removeAll(value);
+            removedAllObjects.removeAll(RecordingUtils.lookupCollection(value, removedAllObjects.size()));
         } else {
-            removedAllObjects.removeAll(fusedCollectionActions.getAdded());
+            removedAllObjects.removeAll(RecordingUtils.lookupCollection(fusedCollectionActions.getAdded(), removedAllObjects.size()));
             if (inverseFlusher == null) {
                 elementsToAdd = fusedCollectionActions.getAdded(context);
             } else {
@@ -23,6 +23,7 @@ import com.blazebit.persistence.view.impl.collection.ListRemoveAction;
 import com.blazebit.persistence.view.impl.collection.ListSetAction;
 import com.blazebit.persistence.view.impl.collection.RecordingCollection;
 import com.blazebit.persistence.view.impl.collection.RecordingList;
+import com.blazebit.persistence.view.impl.collection.RecordingUtils;
 import com.blazebit.persistence.view.impl.collection.CollectionRemoveListener;
 import com.blazebit.persistence.view.impl.entity.ViewToEntityMapper;
 import com.blazebit.persistence.view.spi.type.DirtyStateTrackable;
@@ -180,7 +181,7 @@ public class IndexedListAttributeFlusher<E, V extends List<?>> extends Collectio
         String mapping = getMapping();
         if (fusedCollectionActions == null || !removedAllObjects.isEmpty()) {
             appends = (Collection<Object>) value;
-            removedAllObjects.removeAll(appends);
+            removedAllObjects.removeAll(RecordingUtils.lookupCollection(appends, removedAllObjects.size()));
             appendIndex = 0;
         } else {
             FusedCollectionIndexActions indexActions = (FusedCollectionIndexActions) fusedCollectionActions;
@@ -244,7 +245,7 @@ public class IndexedListAttributeFlusher<E, V extends List<?>> extends Collectio
 
             appends = indexActions.getAdded(context);
             appendIndex = indexActions.getAppendIndex();
-            removedAllObjects.removeAll(indexActions.getAdded());
+            removedAllObjects.removeAll(RecordingUtils.lookupCollection(indexActions.getAdded(), removedAllObjects.size()));
         }
 
         if (appends.size() > 1 || appends.size() == 1 && appends.iterator().next() != null) {
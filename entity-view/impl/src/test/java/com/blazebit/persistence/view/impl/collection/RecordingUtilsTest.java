@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+public class RecordingUtilsTest {
+
+    @Test
+    public void testCompensateSmallList() {
+        List<Object> elements = new ArrayList<Object>(Arrays.asList("o1", "o2", "o1"));
+        Collection<Object> result = RecordingUtils.compensateObjects(elements, new ArrayList<Object>(Arrays.asList("o1", "o3", "o1", "o1")));
+        Assert.assertEquals(Arrays.asList("o2"), elements);
+        Assert.assertEquals(Arrays.asList("o3", "o1"), result);
+    }
+
+    @Test
+    public void testCompensateLargeList() {
+        List<Object> elements = new ArrayList<>();
+        List<Object> objectsToCompensate = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add("e" + (i % 50));
+            objectsToCompensate.add("e" + (i * 2));
+        }
+        List<Object> expectedElements = new ArrayList<>(elements);
+        Collection<Object> expectedResult = compensateByScanning(expectedElements, objectsToCompensate);
+
+        Collection<Object> result = RecordingUtils.compensateObjects(elements, objectsToCompensate);
+        Assert.assertEquals(expectedElements, elements);
+        Assert.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    public void testCompensateLargeListWithoutOverlap() {
+        List<Object> elements = new ArrayList<>();
+        List<Object> objectsToCompensate = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add("e" + i);
+            objectsToCompensate.add("o" + i);
+        }
+
+        Collection<Object> result = RecordingUtils.compensateObjects(elements, objectsToCompensate);
+        Assert.assertSame(objectsToCompensate, result);
+        Assert.assertEquals(100, elements.size());
+    }
+
+    private static Collection<Object> compensateByScanning(List<Object> elements, Collection<Object> objectsToCompensate) {
+        List<Object> result = new ArrayList<>();
+        for (Object o : objectsToCompensate) {
+            if (!elements.remove(o)) {
+                result.add(o);
+            }
+        }
+        return result;
+    }
+}
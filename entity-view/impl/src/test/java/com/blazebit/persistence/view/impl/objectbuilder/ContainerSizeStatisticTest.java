@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+public class ContainerSizeStatisticTest {
+
+    private static final int[] PARENT_ID_POSITIONS = { 0 };
+
+    @Test
+    public void testEmptyInput() {
+        ContainerSizeStatistic statistic = new ContainerSizeStatistic(PARENT_ID_POSITIONS, Collections.<Object[]>emptyList());
+        Assert.assertEquals(0, statistic.getExpectedSize(id(1L)));
+    }
+
+    @Test
+    public void testRowCountPerParent() {
+        List<Object[]> tuples = new ArrayList<>();
+        tuples.add(new Object[]{ 1L, "a" });
+        tuples.add(new Object[]{ 2L, "b" });
+        tuples.add(new Object[]{ 1L, "c" });
+        tuples.add(new Object[]{ 1L, "d" });
+        ContainerSizeStatistic statistic = new ContainerSizeStatistic(PARENT_ID_POSITIONS, tuples);
+
+        Assert.assertEquals(3, statistic.getExpectedSize(id(1L)));
+        Assert.assertEquals(1, statistic.getExpectedSize(id(2L)));
+        Assert.assertEquals(0, statistic.getExpectedSize(id(3L)));
+        for (int i = 0; i < tuples.size(); i++) {
+            Assert.assertEquals(id((Long) tuples.get(i)[0]), statistic.getTupleId(i));
+        }
+    }
+
+    @Test
+    public void testEmptyParentIsNotCounted() {
+        List<Object[]> tuples = new ArrayList<>();
+        tuples.add(new Object[]{ null, null });
+        tuples.add(new Object[]{ null, null });
+        ContainerSizeStatistic statistic = new ContainerSizeStatistic(PARENT_ID_POSITIONS, tuples);
+
+        Assert.assertTrue(statistic.getTupleId(0).isEmpty());
+        Assert.assertEquals(0, statistic.getExpectedSize(statistic.getTupleId(0)));
+    }
+
+    @Test
+    public void testExpectedSizeIsCapped() {
+        List<Object[]> tuples = new ArrayList<>();
+        for (int i = 0; i < ContainerSizeStatistic.MAX_EXPECTED_SIZE * 4; i++) {
+            tuples.add(new Object[]{ 1L, i });
+        }
+        tuples.add(new Object[]{ 2L, 0 });
+        ContainerSizeStatistic statistic = new ContainerSizeStatistic(PARENT_ID_POSITIONS, tuples);
+
+        Assert.assertEquals(ContainerSizeStatistic.MAX_EXPECTED_SIZE, statistic.getExpectedSize(id(1L)));
+        // A large parent must not inflate the containers of other parents
+        Assert.assertEquals(1, statistic.getExpectedSize(id(2L)));
+    }
+
+    private static TupleId id(Long parentId) {
+        return new TupleId(PARENT_ID_POSITIONS, new Object[]{ parentId });
+    }
+}
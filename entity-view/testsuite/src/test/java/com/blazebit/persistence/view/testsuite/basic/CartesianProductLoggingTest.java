@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.basic;
+
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.EntityViewInheritance;
+import com.blazebit.persistence.view.EntityViewInheritanceMapping;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+public class CartesianProductLoggingTest extends AbstractEntityViewTest {
+
+    @EntityView(Person.class)
+    public interface SimplePersonView {
+        @IdMapping
+        Long getId();
+    }
+
+    @EntityView(Document.class)
+    public interface SimpleDocumentView {
+        @IdMapping
+        Long getId();
+    }
+
+    @EntityView(Person.class)
+    public interface PersonWithFavoritesView extends SimplePersonView {
+        Set<SimpleDocumentView> getFavoriteDocuments();
+    }
+
+    @EntityView(Document.class)
+    public interface NestedChainDocumentView extends SimpleDocumentView {
+        Set<PersonWithFavoritesView> getPartners();
+    }
+
+    @EntityView(Document.class)
+    public interface SiblingsDocumentView extends SimpleDocumentView {
+        Set<SimplePersonView> getPartners();
+        List<SimplePersonView> getPeople();
+    }
+
+    @EntityView(Document.class)
+    @EntityViewInheritance
+    public interface BaseDocumentView extends SimpleDocumentView {
+        Set<SimplePersonView> getPartners();
+    }
+
+    @EntityView(Document.class)
+    @EntityViewInheritanceMapping("age > 10")
+    public interface OldDocumentView extends BaseDocumentView {
+        List<SimplePersonView> getPeople();
+    }
+
+    @Test
+    public void nestedChainIsNotLogged() {
+        List<String> messages = buildAndCollectMessages(NestedChainDocumentView.class, PersonWithFavoritesView.class, SimplePersonView.class, SimpleDocumentView.class);
+        assertEquals(0, countMessagesFor(messages, NestedChainDocumentView.class));
+    }
+
+    @Test
+    public void siblingPluralAttributesAreLogged() {
+        List<String> messages = buildAndCollectMessages(SiblingsDocumentView.class, SimplePersonView.class, SimpleDocumentView.class);
+        assertEquals(1, countMessagesFor(messages, SiblingsDocumentView.class));
+    }
+
+    @Test
+    public void siblingPluralAttributesOfSubtypeAreLogged() {
+        List<String> messages = buildAndCollectMessages(BaseDocumentView.class, OldDocumentView.class, SimplePersonView.class, SimpleDocumentView.class);
+        assertEquals(1, countMessagesFor(messages, BaseDocumentView.class));
+    }
+
+    private List<String> buildAndCollectMessages(Class<?>... classes) {
+        final List<String> messages = new ArrayList<>();
+        Logger logger = Logger.getLogger(EntityViewManagerImpl.class.getName());
+        Level oldLevel = logger.getLevel();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                messages.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        logger.setLevel(Level.FINE);
+        logger.addHandler(handler);
+        try {
+            build(classes);
+        } finally {
+            logger.removeHandler(handler);
+            logger.setLevel(oldLevel);
+        }
+        return messages;
+    }
+
+    private static int countMessagesFor(List<String> messages, Class<?> viewClass) {
+        int count = 0;
+        for (String message : messages) {
+            if (message.contains("'" + viewClass.getName() + "'")) {
+                assertTrue(message.contains("cartesian product"));
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.correlation;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FetchStrategy;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.MappingCorrelatedSimple;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+public class CorrelationQueryCachingTest extends AbstractEntityViewTest {
+
+    private Document doc;
+
+    @EntityView(Person.class)
+    public interface SimplePersonView {
+        @IdMapping
+        Long getId();
+
+        String getName();
+    }
+
+    @EntityView(Document.class)
+    public interface DocumentWithCorrelatedOwnerView {
+        @IdMapping
+        Long getId();
+
+        @MappingCorrelatedSimple(correlated = Person.class, correlationBasis = "owner", correlationExpression = "this IN correlationKey", fetch = FetchStrategy.SELECT)
+        SimplePersonView getCorrelatedOwner();
+    }
+
+    @Override
+    protected Properties applyProperties(Properties properties) {
+        properties = super.applyProperties(properties);
+        properties.setProperty("hibernate.cache.use_query_cache", "true");
+        properties.setProperty("hibernate.cache.region.factory_class", "org.hibernate.testing.cache.CachingRegionFactory");
+        return properties;
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person owner = new Person("pers1");
+                doc = new Document("doc1");
+                doc.setOwner(owner);
+                em.persist(owner);
+                em.persist(doc);
+            }
+        });
+    }
+
+    @After
+    public final void tearDown() {
+        disableQueryCollecting();
+    }
+
+    // Apparently, only Hibernate is able to cache scalar queries...
+    @Test
+    @Category({ NoEclipselink.class, NoDatanucleus.class, NoOpenJPA.class })
+    public void correlationQueryResultCaching() {
+        EntityViewManager evm = build(DocumentWithCorrelatedOwnerView.class, SimplePersonView.class);
+        enableQueryCollecting();
+
+        DocumentWithCorrelatedOwnerView first = query(evm);
+        // The entity view query and the correlation batch query
+        assertQueryCount(2);
+
+        DocumentWithCorrelatedOwnerView second = query(evm);
+        // Both queries are served from the query cache, so no further statements are executed
+        assertQueryCount(2);
+
+        assertEquals(doc.getId(), second.getId());
+        assertEquals(first.getCorrelatedOwner().getId(), second.getCorrelatedOwner().getId());
+        assertEquals("pers1", second.getCorrelatedOwner().getName());
+    }
+
+    private DocumentWithCorrelatedOwnerView query(EntityViewManager evm) {
+        CriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .setCacheable(true);
+        List<DocumentWithCorrelatedOwnerView> results = evm.applySetting(EntityViewSetting.create(DocumentWithCorrelatedOwnerView.class), cb).getResultList();
+        assertEquals(1, results.size());
+        return results.get(0);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.view.testsuite.correlation;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FetchStrategy;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.MappingCorrelatedSimple;
+import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.AbstractCorrelatedBatchTupleListTransformer;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+public class CorrelationQueryWarnThresholdTest extends AbstractEntityViewTest {
+
+    @EntityView(Person.class)
+    public interface SimplePersonView {
+        @IdMapping
+        Long getId();
+    }
+
+    @EntityView(Document.class)
+    public interface DocumentWithCorrelatedOwnerView {
+        @IdMapping
+        Long getId();
+
+        @MappingCorrelatedSimple(correlated = Person.class, correlationBasis = "owner", correlationExpression = "this IN correlationKey", fetch = FetchStrategy.SELECT)
+        SimplePersonView getCorrelatedOwner();
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                for (int i = 1; i <= 4; i++) {
+                    Person owner = new Person("pers" + i);
+                    Document document = new Document("doc" + i);
+                    document.setOwner(owner);
+                    em.persist(owner);
+                    em.persist(document);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void warnsWhenThresholdIsExceeded() {
+        // Every document has a different owner, so a batch size of 1 requires one batch query per document
+        List<LogRecord> records = queryAndCollectRecords(2);
+
+        assertEquals(1, records.size());
+        assertEquals(Level.WARNING, records.get(0).getLevel());
+        String message = records.get(0).getMessage();
+        assertTrue(message, message.contains(".correlatedOwner' executed 4 batch queries with a batch size of 1 for 4 tuples"));
+        assertTrue(message, message.contains("threshold of 2"));
+    }
+
+    @Test
+    public void doesNotWarnBelowThreshold() {
+        assertEquals(0, queryAndCollectRecords(4).size());
+    }
+
+    @Test
+    public void rejectsNegativeThreshold() {
+        EntityViewManager evm = build(DocumentWithCorrelatedOwnerView.class, SimplePersonView.class);
+        EntityViewSetting<DocumentWithCorrelatedOwnerView, CriteriaBuilder<DocumentWithCorrelatedOwnerView>> setting = EntityViewSetting.create(DocumentWithCorrelatedOwnerView.class);
+        setting.setProperty(ConfigurationProperties.CORRELATION_QUERY_WARN_THRESHOLD, -1);
+        try {
+            evm.applySetting(setting, cbf.create(em, Document.class, "d"));
+            fail("Expected the negative threshold to be rejected");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains(ConfigurationProperties.CORRELATION_QUERY_WARN_THRESHOLD));
+        }
+    }
+
+    private List<LogRecord> queryAndCollectRecords(int threshold) {
+        EntityViewManager evm = build(DocumentWithCorrelatedOwnerView.class, SimplePersonView.class);
+        EntityViewSetting<DocumentWithCorrelatedOwnerView, CriteriaBuilder<DocumentWithCorrelatedOwnerView>> setting = EntityViewSetting.create(DocumentWithCorrelatedOwnerView.class);
+        setting.setProperty(ConfigurationProperties.DEFAULT_BATCH_SIZE + ".correlatedOwner", 1);
+        setting.setProperty(ConfigurationProperties.CORRELATION_QUERY_WARN_THRESHOLD, threshold);
+
+        final List<LogRecord> records = new ArrayList<>();
+        Logger logger = Logger.getLogger(AbstractCorrelatedBatchTupleListTransformer.class.getName());
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        logger.addHandler(handler);
+        try {
+            List<DocumentWithCorrelatedOwnerView> results = evm.applySetting(setting, cbf.create(em, Document.class, "d").orderByAsc("id")).getResultList();
+            assertEquals(4, results.size());
+            for (DocumentWithCorrelatedOwnerView result : results) {
+                assertTrue(result.getCorrelatedOwner() != null);
+            }
+        } finally {
+            logger.removeHandler(handler);
+        }
+        return records;
+    }
+}
@@ -73,6 +73,7 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -84,6 +85,7 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
 
     private static final Logger LOG = Logger.getLogger(HibernateExtendedQuerySupport.class.getName());
     private static final String[] KNOWN_STATEMENTS = { "select ", "insert ", "update ", "delete " };
+    private static final String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
     
     private final ConcurrentMap<SessionFactoryImplementor, BoundedConcurrentHashMap<QueryPlanCacheKey, QueryPlanCacheValue>> queryPlanCachesCache = new ConcurrentHashMap<>();
     private final ConcurrentMap<FieldKey, Field> fieldCache = new ConcurrentHashMap<>();
@@ -1124,7 +1126,7 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
     private BoundedConcurrentHashMap<QueryPlanCacheKey, QueryPlanCacheValue> getQueryPlanCache(SessionFactoryImplementor sfi) {
         BoundedConcurrentHashMap<QueryPlanCacheKey, QueryPlanCacheValue> queryPlanCache = queryPlanCachesCache.get(sfi);
         if (queryPlanCache == null) {
-            queryPlanCache = new BoundedConcurrentHashMap<QueryPlanCacheKey, QueryPlanCacheValue>(QueryPlanCache.DEFAULT_QUERY_PLAN_MAX_COUNT, 20, BoundedConcurrentHashMap.Eviction.LIRS);
+            queryPlanCache = new BoundedConcurrentHashMap<QueryPlanCacheKey, QueryPlanCacheValue>(getQueryPlanCacheMaxSize(sfi), 20, BoundedConcurrentHashMap.Eviction.LIRS);
             BoundedConcurrentHashMap<QueryPlanCacheKey, QueryPlanCacheValue> oldQueryPlanCache = queryPlanCachesCache.putIfAbsent(sfi, queryPlanCache);
             if (oldQueryPlanCache != null) {
                 queryPlanCache = oldQueryPlanCache;
@@ -1134,6 +1136,29 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
         return queryPlanCache;
     }
 
+    static int getQueryPlanCacheMaxSize(SessionFactoryImplementor sfi) {
+        Object value;
+        try {
+            // The return type changed from Properties to Map in Hibernate 5.2, so we have to invoke it reflectively
+            Map<?, ?> properties = (Map<?, ?>) sfi.getClass().getMethod("getProperties").invoke(sfi);
+            value = properties.get(QUERY_PLAN_CACHE_MAX_SIZE);
+        } catch (Exception ex) {
+            LOG.log(Level.FINE, "Could not read the configured query plan cache size, using the default", ex);
+            return QueryPlanCache.DEFAULT_QUERY_PLAN_MAX_COUNT;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        } else if (value != null) {
+            try {
+                return Integer.parseInt(value.toString().trim());
+            } catch (NumberFormatException ex) {
+                LOG.warning("Invalid value '" + value + "' for the property " + QUERY_PLAN_CACHE_MAX_SIZE + ", using the default query plan cache size");
+            }
+        }
+        return QueryPlanCache.DEFAULT_QUERY_PLAN_MAX_COUNT;
+    }
+
     private QueryPlanCacheKey createCacheKey(String sql, List<Query> queries, List<String> queryStrings) {
         return createCacheKey(sql, queries, queryStrings, null, null);
     }
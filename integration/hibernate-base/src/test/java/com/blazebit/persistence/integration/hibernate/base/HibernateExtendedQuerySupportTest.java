@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Blazebit
+ */
+
+package com.blazebit.persistence.integration.hibernate.base;
+
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Properties;
+
+/**
+ *
+ * @author agent
+ * @since 1.6.16
+ */
+public class HibernateExtendedQuerySupportTest {
+
+    private static final String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
+
+    @Test
+    public void testConfiguredQueryPlanCacheSize() {
+        Properties properties = new Properties();
+        properties.setProperty(QUERY_PLAN_CACHE_MAX_SIZE, " 512 ");
+        Assert.assertEquals(512, HibernateExtendedQuerySupport.getQueryPlanCacheMaxSize(sessionFactory(properties)));
+    }
+
+    @Test
+    public void testConfiguredNumericQueryPlanCacheSize() {
+        Properties properties = new Properties();
+        properties.put(QUERY_PLAN_CACHE_MAX_SIZE, 256);
+        Assert.assertEquals(256, HibernateExtendedQuerySupport.getQueryPlanCacheMaxSize(sessionFactory(properties)));
+    }
+
+    @Test
+    public void testDefaultQueryPlanCacheSize() {
+        Assert.assertEquals(QueryPlanCache.DEFAULT_QUERY_PLAN_MAX_COUNT, HibernateExtendedQuerySupport.getQueryPlanCacheMaxSize(sessionFactory(new Properties())));
+    }
+
+    @Test
+    public void testMalformedQueryPlanCacheSizeFallsBackToDefault() {
+        Properties properties = new Properties();
+        properties.setProperty(QUERY_PLAN_CACHE_MAX_SIZE, "large");
+        Assert.assertEquals(QueryPlanCache.DEFAULT_QUERY_PLAN_MAX_COUNT, HibernateExtendedQuerySupport.getQueryPlanCacheMaxSize(sessionFactory(properties)));
+    }
+
+    private static SessionFactoryImplementor sessionFactory(final Properties properties) {
+        return (SessionFactoryImplementor) Proxy.newProxyInstance(HibernateExtendedQuerySupportTest.class.getClassLoader(), new Class<?>[]{ SessionFactoryImplementor.class }, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if ("getProperties".equals(method.getName())) {
+                    return properties;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -35,6 +35,7 @@ public class EntityViewReferenceDeserializer extends JsonDeserializer {
     private final boolean deserializeIdFromJson;
     private final boolean updatable;
     private final boolean creatable;
+    private volatile ImplementationDeserializer implementationDeserializer;
 
     public EntityViewReferenceDeserializer(EntityViewManager entityViewManager, ManagedViewType<?> view, ObjectMapper objectMapper, Set<String> ignoredProperties, EntityViewIdValueAccessor entityViewIdValueAccessor) {
         this.entityViewManager = entityViewManager;
@@ -80,10 +81,20 @@ public class EntityViewReferenceDeserializer extends JsonDeserializer {
 
         jsonParser = codec.treeAsTokens(treeNode);
         jsonParser.nextToken();
-        return deserializationContext.findNonContextualValueDeserializer(deserializationContext.constructType(reference.getClass()))
+        return getImplementationDeserializer(reference.getClass(), deserializationContext)
                 .deserialize(jsonParser, deserializationContext, reference);
     }
 
+    private JsonDeserializer<Object> getImplementationDeserializer(Class<?> implementationClass, DeserializationContext deserializationContext) throws IOException {
+        // The deserializer is resolved through the mapper wide cache anyway, so we can safely remember it to avoid the lookup for every object
+        ImplementationDeserializer implementationDeserializer = this.implementationDeserializer;
+        if (implementationDeserializer == null || implementationDeserializer.implementationClass != implementationClass) {
+            JsonDeserializer<Object> deserializer = deserializationContext.findNonContextualValueDeserializer(deserializationContext.constructType(implementationClass));
+            this.implementationDeserializer = implementationDeserializer = new ImplementationDeserializer(implementationClass, deserializer);
+        }
+        return implementationDeserializer.deserializer;
+    }
+
     private Object retrieveId(JsonParser rootJsonParser, ObjectCodec codec, JsonNode treeNode, boolean consume) throws IOException {
         Object id;
         if (idAttribute == null || idType == null) {
@@ -109,4 +120,18 @@ public class EntityViewReferenceDeserializer extends JsonDeserializer {
 
         return id;
     }
+
+    /**
+     * @author agent
+     * @since 1.6.16
+     */
+    private static final class ImplementationDeserializer {
+        private final Class<?> implementationClass;
+        private final JsonDeserializer<Object> deserializer;
+
+        private ImplementationDeserializer(Class<?> implementationClass, JsonDeserializer<Object> deserializer) {
+            this.implementationClass = implementationClass;
+            this.deserializer = deserializer;
+        }
+    }
 }
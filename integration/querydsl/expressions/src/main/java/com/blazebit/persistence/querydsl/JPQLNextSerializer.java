@@ -18,7 +18,9 @@ import com.querydsl.jpa.JPQLTemplates;
 import javax.annotation.Nullable;
 import javax.persistence.EntityManager;
 import java.lang.reflect.Field;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Slightly adjusted {@link JPQLSerializer} implementations that has
@@ -33,6 +35,7 @@ import java.util.List;
 public class JPQLNextSerializer extends JPQLSerializer {
 
     private static final Field BUILDER_FIELD;
+    private static final Map<String, JPQLNextOps> CAST_OPERATORS;
 
     static {
         try {
@@ -42,6 +45,14 @@ public class JPQLNextSerializer extends JPQLSerializer {
         } catch (Exception ex) {
             throw new RuntimeException(ex);
         }
+
+        Map<String, JPQLNextOps> castOperators = new HashMap<>();
+        for (JPQLNextOps operator : JPQLNextOps.values()) {
+            if (operator.name().startsWith("CAST_")) {
+                castOperators.put(operator.name(), operator);
+            }
+        }
+        CAST_OPERATORS = castOperators;
     }
 
     private final StringBuilder builder;
@@ -85,11 +96,11 @@ public class JPQLNextSerializer extends JPQLSerializer {
         if (operator == JPQLOps.CAST) {
             // JPQLSerializer replaces NUMCAST with CAST, which JPQL.Next actually doesn't support
             // JPQL.Next has its own CAST functions however, so use these if they can be found instead.
-            try {
-                operator = JPQLNextOps.valueOf("CAST_" + type.getSimpleName().toUpperCase());
+            // Use a lookup map to avoid throwing an exception for casts to types without a JPQL.Next cast function
+            JPQLNextOps castOperator = CAST_OPERATORS.get("CAST_" + type.getSimpleName().toUpperCase());
+            if (castOperator != null) {
+                operator = castOperator;
                 args = args.subList(0, 1);
-            } catch (IllegalArgumentException e) {
-                // no-op
             }
         } else if (operator == Ops.MOD && type != Integer.class) {
             // JPA enforces Integer as result for MOD, but Querydsl may expect any integer type.
@@ -218,7 +218,8 @@ public abstract class AbstractPartTreeBlazePersistenceQuery extends AbstractJpaQ
          * The following methods were modified to work with entity views.
          ******************************************/
         private TypedQuery<?> createQuery(CriteriaQuery<?> criteriaQuery, Object[] values) {
-            if (this.cachedCriteriaQuery != null) {
+            // Only the cached query is shared between invocations, so queries created per invocation need no lock
+            if (criteriaQuery == this.cachedCriteriaQuery && requiresExclusiveAccess()) {
                 synchronized (this.cachedCriteriaQuery) {
                     return createQuery0(criteriaQuery, values);
                 }
@@ -226,6 +227,11 @@ public abstract class AbstractPartTreeBlazePersistenceQuery extends AbstractJpaQ
             return createQuery0(criteriaQuery, values);
         }
 
+        protected boolean requiresExclusiveAccess() {
+            // Rendering a Blaze criteria query does not modify it, only applying a specification does
+            return parameters.getSpecificationIndex() >= 0;
+        }
+
         protected TypedQuery<?> createQuery0(CriteriaQuery<?> criteriaQuery, Object[] values) {
             processSpecification(criteriaQuery, values);
 
@@ -540,6 +546,12 @@ public abstract class AbstractPartTreeBlazePersistenceQuery extends AbstractJpaQ
             return binder.bind(query);
         }
 
+        @Override
+        protected boolean requiresExclusiveAccess() {
+            // The count query is a criteria query of the JPA provider which might not support concurrent rendering
+            return true;
+        }
+
         @Override
         protected TypedQuery<?> createQuery0(CriteriaQuery<?> criteriaQuery, Object[] values) {
             return getEntityManager().createQuery(criteriaQuery);
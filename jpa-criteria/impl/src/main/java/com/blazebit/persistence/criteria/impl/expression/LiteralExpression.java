@@ -29,6 +29,9 @@ public class LiteralExpression<T> extends AbstractExpression<T> {
     public LiteralExpression(BlazeCriteriaBuilderImpl criteriaBuilder, Class<T> type, T literal) {
         super(criteriaBuilder, type);
         this.literal = literal;
+        if (type != null) {
+            setConverter(TypeUtils.getConverter(type, criteriaBuilder.getEntityMetamodel().getEnumTypes().keySet()));
+        }
     }
 
     private static Class<?> determineClass(Object literal) {
@@ -49,7 +52,13 @@ public class LiteralExpression<T> extends AbstractExpression<T> {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public void render(RenderContext context) {
         final StringBuilder buffer = context.getBuffer();
-        final TypeConverter converter = TypeUtils.getConverter(literal.getClass(), criteriaBuilder.getEntityMetamodel().getEnumTypes().keySet());
+        final TypeConverter converter;
+        // The converter for the java type is already resolved, so only look it up if the literal is of a different type
+        if (literal.getClass() == getJavaType()) {
+            converter = getConverter();
+        } else {
+            converter = TypeUtils.getConverter(literal.getClass(), criteriaBuilder.getEntityMetamodel().getEnumTypes().keySet());
+        }
         if (converter != null) {
             converter.appendTo(literal, buffer);
         } else {